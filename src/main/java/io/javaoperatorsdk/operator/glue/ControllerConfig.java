@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.glue;
 import java.util.Map;
 
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 
 @ConfigMapping(prefix = "glue.operator")
 public interface ControllerConfig {
@@ -11,4 +12,125 @@ public interface ControllerConfig {
 
   Map<String, String> resourceLabelSelector();
 
+  /**
+   * Maximal number of parsed templates kept in memory. Templates are the same for all the Glues
+   * created by a GlueOperator, so those are parsed just once. Zero disables the cache.
+   */
+  @WithDefault("1000")
+  int templateCacheMaxSize();
+
+  /**
+   * Skips rendering the desired state and matching it with the actual resource if neither the
+   * inputs read by the template nor the actual resource changed since the desired state was last
+   * applied or matched.
+   */
+  @WithDefault("true")
+  boolean skipUnchangedDependents();
+
+  /**
+   * Maximal number of condition results kept in memory. A result is reused while the resources the
+   * condition reads do not change. Zero disables the cache.
+   */
+  @WithDefault("10000")
+  int conditionCacheMaxSize();
+
+  /**
+   * Maximal number of statements executed by a JavaScript condition evaluation. Zero means no
+   * limit.
+   */
+  @WithDefault("1000000")
+  long javascriptStatementLimit();
+
+  /** Maximal duration of a JavaScript condition evaluation in milliseconds. Zero means no limit. */
+  @WithDefault("5000")
+  long javascriptTimeoutMillis();
+
+  /**
+   * Maximal number of JavaScript condition scripts kept in memory, together with the identifiers
+   * used by them. Zero disables the cache.
+   */
+  @WithDefault("1000")
+  int javascriptScriptCacheMaxSize();
+
+  /**
+   * Removes the managed fields of other field managers from the resources before those are put to
+   * the informer caches. The managed fields of the operator are kept, since those are used for
+   * matching the desired state.
+   */
+  @WithDefault("true")
+  boolean stripManagedFields();
+
+  /**
+   * Parts of the resources not put to the informer caches, per resource type. The key is in the
+   * same format as for {@link #resourceLabelSelector()}, the value is a comma separated list of
+   * JSON pointers, like {@code /status,/metadata/annotations/my-annotation}.
+   */
+  Map<String, String> resourceCachePrune();
+
+  /**
+   * Maximal number of distinct resources for which an informer watches only the named resources,
+   * if a resource type is used only for related resources with names. A single resource is
+   * selected using a field selector, more resources are filtered before put to the cache. Above
+   * the threshold all the resources of the type are watched. Zero disables name scoped informers.
+   */
+  @WithDefault("10")
+  int relatedResourceNameWatchThreshold();
+
+  /**
+   * Maximal number of namespaces for which an informer watches only the namespaces the resources of
+   * the type are used in, instead of all the namespaces. Zero disables namespace scoped informers.
+   */
+  @WithDefault("0")
+  int informerNamespaceThreshold();
+
+  /**
+   * Milliseconds an informer not used by any Glue anymore is kept registered, so it can be reused
+   * if the resource type is used again meanwhile. Zero de-registers the informer immediately.
+   */
+  @WithDefault("0")
+  long informerDeRegistrationDelayMillis();
+
+  /**
+   * If the informers of the resource types used by the existing Glue-s are created and started in
+   * parallel at startup, before the Glue-s are reconciled.
+   */
+  @WithDefault("true")
+  boolean preWarmInformers();
+
+  /**
+   * Resources and informers removed from the spec of a Glue are cleaned up only when the generation
+   * of the Glue changes. If positive, those are cleaned up also on a reconciliation if the last
+   * clean up of the Glue was at least this many milliseconds ago. Zero disables the sweep.
+   */
+  @WithDefault("0")
+  long workflowChangeSweepIntervalMillis();
+
+  /**
+   * If the dependent resources of the workflows are reconciled on virtual threads, instead of the
+   * workflow executor of the framework.
+   */
+  @WithDefault("true")
+  boolean virtualThreadWorkflowExecutor();
+
+  /**
+   * Maximal number of dependent resources of a Glue reconciled concurrently on virtual threads.
+   * Zero means no limit.
+   */
+  @WithDefault("50")
+  int maxConcurrentDependentsPerGlue();
+
+  /**
+   * Maximal number of dependent resources of all the Glue-s reconciled concurrently on virtual
+   * threads. Zero means no limit.
+   */
+  @WithDefault("500")
+  int maxConcurrentDependents();
+
+  /**
+   * Maximal number of resources of a bulk child resource applied (or deleted) concurrently. One
+   * applies the resources one by one.
+   */
+  @WithDefault("10")
+  int bulkApplyConcurrency();
+
 }
@@ -0,0 +1,75 @@
+package io.javaoperatorsdk.operator.glue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the properties of {@link ObjectMeta} directly, instead of converting the whole metadata to
+ * a Map for every property read. The values are the same as in the converted Map: empty collections
+ * are not present, and the rarely used typed values (like ownerReferences) are converted to generic
+ * form.
+ */
+public final class ObjectMetaProperties {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private static final List<String> NAMES = List.of("annotations", "creationTimestamp",
+      "deletionGracePeriodSeconds", "deletionTimestamp", "finalizers", "generateName", "generation",
+      "labels", "managedFields", "name", "namespace", "ownerReferences", "resourceVersion",
+      "selfLink", "uid");
+
+  private ObjectMetaProperties() {}
+
+  /** Value of the property, null if the metadata does not have the property. */
+  public static Object get(ObjectMeta metadata, String name) {
+    return switch (name) {
+      case "annotations" -> nonEmpty(metadata.getAnnotations());
+      case "creationTimestamp" -> metadata.getCreationTimestamp();
+      case "deletionGracePeriodSeconds" -> metadata.getDeletionGracePeriodSeconds();
+      case "deletionTimestamp" -> metadata.getDeletionTimestamp();
+      case "finalizers" -> nonEmpty(metadata.getFinalizers());
+      case "generateName" -> metadata.getGenerateName();
+      case "generation" -> metadata.getGeneration();
+      case "labels" -> nonEmpty(metadata.getLabels());
+      case "managedFields" -> generic(metadata.getManagedFields());
+      case "name" -> metadata.getName();
+      case "namespace" -> metadata.getNamespace();
+      case "ownerReferences" -> generic(metadata.getOwnerReferences());
+      case "resourceVersion" -> metadata.getResourceVersion();
+      case "selfLink" -> metadata.getSelfLink();
+      case "uid" -> metadata.getUid();
+      default -> metadata.getAdditionalProperties().get(name);
+    };
+  }
+
+  /** Names of the properties the metadata has. */
+  public static List<String> names(ObjectMeta metadata) {
+    var res = new ArrayList<String>();
+    for (String name : NAMES) {
+      if (get(metadata, name) != null) {
+        res.add(name);
+      }
+    }
+    res.addAll(metadata.getAdditionalProperties().keySet());
+    return res;
+  }
+
+  private static <T extends Map<?, ?>> T nonEmpty(T map) {
+    return map == null || map.isEmpty() ? null : map;
+  }
+
+  private static <T extends Collection<?>> T nonEmpty(T collection) {
+    return collection == null || collection.isEmpty() ? null : collection;
+  }
+
+  private static List<?> generic(List<?> typedValues) {
+    return typedValues == null || typedValues.isEmpty() ? null
+        : objectMapper.convertValue(typedValues, List.class);
+  }
+}
@@ -6,14 +6,20 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.RelatedResourceSpec;
-import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+import io.javaoperatorsdk.operator.glue.dependent.SecondaryResourceIndex;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 
 public class Utils {
@@ -21,24 +27,22 @@ public class Utils {
   private static final Logger log = LoggerFactory.getLogger(Utils.class);
 
   public static final String RESOURCE_NAME_DELIMITER = "#";
+  private static final String INFORMER_SEQUENCE_DELIMITER = "#";
 
   private Utils() {}
 
   public static Map<String, GenericKubernetesResource> getActualResourcesByNameInWorkflow(
       Context<Glue> context, Glue glue) {
-    var secondaryResources = context.getSecondaryResources(GenericKubernetesResource.class);
+    var index = SecondaryResourceIndex.of(context);
     Map<String, GenericKubernetesResource> res = new HashMap<>();
-    secondaryResources.forEach(sr -> {
-      var dependentSpec = glue.getSpec().getChildResources().stream()
-          .filter(r ->
-      // comparing the name from annotation since the resource name might be templated in spec
-      // therefore "Utils.getName(relatedResourceSpec).equals(sr.getMetadata().getName())" would not
-      // work
-      r.getName()
-          .equals(
-              sr.getMetadata().getAnnotations().get(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY)))
-          .findFirst();
-      dependentSpec.ifPresent(spec -> res.put(spec.getName(), sr));
+    // comparing the name from annotation since the resource name might be templated in spec
+    // therefore "Utils.getName(relatedResourceSpec).equals(sr.getMetadata().getName())" would not
+    // work
+    glue.getSpec().getChildResources().forEach(spec -> {
+      var resources = index.byDependentName(spec.getName());
+      if (!resources.isEmpty()) {
+        res.put(spec.getName(), resources.get(resources.size() - 1));
+      }
     });
 
     glue.getSpec().getRelatedResources().forEach(r -> {
@@ -56,17 +60,13 @@ public class Utils {
     return res;
   }
 
-  @SuppressWarnings("unchecked")
   public static Map<String, GenericKubernetesResource> getRelatedResources(Glue glue,
       RelatedResourceSpec relatedResourceSpec,
       Context<?> context) {
     var gvk =
         new GroupVersionKind(relatedResourceSpec.getApiVersion(), relatedResourceSpec.getKind());
     log.trace("Getting event source for gvk: {}", gvk);
-    var es =
-        (InformerEventSource<GenericKubernetesResource, Glue>) context
-            .eventSourceRetriever()
-            .getEventSourceFor(GenericKubernetesResource.class, gvk.toString());
+    var es = getInformer(context, gvk);
 
     var namespace = relatedResourceSpec.isClusterScoped() ? null
         : relatedResourceSpec.getNamespace() == null ? glue.getMetadata().getNamespace()
@@ -79,6 +79,58 @@ public class Utils {
     return res;
   }
 
+  /**
+   * Name of the informer of the glue controller for the gvk. An informer replacing a registered one
+   * is registered before the replaced one is de-registered, so it gets a new name with a higher
+   * sequence number.
+   */
+  public static String informerName(GroupVersionKind gvk, long sequence) {
+    return sequence == 0 ? gvk.toString()
+        : gvk.toString() + INFORMER_SEQUENCE_DELIMITER + sequence;
+  }
+
+  /**
+   * The informer with the highest sequence number registered for the gvk, that is the latest one
+   * while an informer is being replaced.
+   */
+  @SuppressWarnings("unchecked")
+  public static InformerEventSource<GenericKubernetesResource, Glue> getInformer(
+      Context<?> context, GroupVersionKind gvk) {
+    var name = gvk.toString();
+    EventSource<GenericKubernetesResource, ?> res = null;
+    long resSequence = -1;
+    for (var es : context.eventSourceRetriever()
+        .getEventSourcesFor(GenericKubernetesResource.class)) {
+      long sequence = informerSequence(es.name(), name);
+      if (sequence > resSequence) {
+        res = es;
+        resSequence = sequence;
+      }
+    }
+    if (res == null) {
+      throw new IllegalStateException("No informer registered for gvk: " + gvk);
+    }
+    return (InformerEventSource<GenericKubernetesResource, Glue>) res;
+  }
+
+  private static long informerSequence(String informerName, String gvkName) {
+    if (informerName == null || !informerName.startsWith(gvkName)) {
+      return -1;
+    }
+    if (informerName.length() == gvkName.length()) {
+      return 0;
+    }
+    var suffix = informerName.substring(gvkName.length());
+    if (!suffix.startsWith(INFORMER_SEQUENCE_DELIMITER)) {
+      return -1;
+    }
+    try {
+      return Long.parseLong(suffix.substring(INFORMER_SEQUENCE_DELIMITER.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
   public static GenericKubernetesResource getResourceForSSAFrom(
       GenericKubernetesResource resourceFromServer) {
     var res = new GenericKubernetesResource();
@@ -160,4 +212,37 @@ public class Utils {
     return new GroupVersionKind(apiVersion, kind);
   }
 
+
+  /**
+   * Lists the primary resources of a controller directly from the API server, from the namespaces
+   * watched by the controller and with its label selector.
+   */
+  public static <P extends HasMetadata> List<P> listPrimaryResources(
+      EventSourceContext<P> context) {
+    var informerConfig = context.getControllerConfiguration().getInformerConfig();
+    var labelSelector = informerConfig.getLabelSelector();
+    var namespaces = context.getControllerConfiguration().getEffectiveNamespaces();
+    var resources = context.getClient().resources(context.getPrimaryResourceClass());
+    if (InformerConfiguration.allNamespacesWatched(namespaces)) {
+      return resources.inAnyNamespace().withLabelSelector(labelSelector).list().getItems();
+    }
+    return namespaces.stream()
+        .flatMap(ns -> resources.inNamespace(ns).withLabelSelector(labelSelector).list()
+            .getItems().stream())
+        .toList();
+  }
+
+  /**
+   * If the API server serves the resource type, thus an informer can be started for it. Types not
+   * served (like the ones with the CRD not applied) and types which could not be checked are
+   * reported as not served.
+   */
+  public static boolean isServed(KubernetesClient client, GroupVersionKind gvk) {
+    try {
+      return client.supports(gvk.apiVersion(), gvk.getKind());
+    } catch (KubernetesClientException e) {
+      log.warn("Error checking if resource type is served for gvk: {}", gvk, e);
+      return false;
+    }
+  }
 }
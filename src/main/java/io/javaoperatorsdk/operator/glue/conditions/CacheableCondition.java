@@ -0,0 +1,26 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.util.Set;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+
+/**
+ * Condition which result depends only on the target resource and the workflow resources it
+ * references, therefore the result can be reused while those resources do not change.
+ */
+public interface CacheableCondition<R extends HasMetadata> extends Condition<R, Glue> {
+
+  /**
+   * Identifies the condition; conditions with the same key are evaluated to the same result for
+   * the same resources.
+   */
+  String cacheKey();
+
+  /**
+   * Names (as in the template data) of the workflow resources read by the condition, not including
+   * the target resource. {@code null} if the condition might read any of the resources.
+   */
+  Set<String> referencedResourceNames(Glue glue);
+}
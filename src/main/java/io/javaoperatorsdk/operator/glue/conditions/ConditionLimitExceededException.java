@@ -0,0 +1,10 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import io.javaoperatorsdk.operator.glue.GlueException;
+
+public class ConditionLimitExceededException extends GlueException {
+
+  public ConditionLimitExceededException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,116 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Bounded cache of condition results. There is one entry per condition of a dependent resource of
+ * a Glue, holding the last result and the fingerprint of the resources it was evaluated with. Least
+ * recently used entries are evicted once the cache reaches its maximum size, entries of a Glue are
+ * removed when the Glue is deleted. A maximum size of zero (or less) disables caching.
+ */
+@Singleton
+public class ConditionResultCache {
+
+  public static final String METRICS_PREFIX = "glue.operator.condition.cache.";
+
+  private final int maxSize;
+  private final Map<Key, Result> cache;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  @Inject
+  public ConditionResultCache(ControllerConfig controllerConfig) {
+    this(controllerConfig.conditionCacheMaxSize());
+  }
+
+  public ConditionResultCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+        return size() > ConditionResultCache.this.maxSize;
+      }
+    };
+  }
+
+  // the cache is registered in the meters once constructed
+  @PostConstruct
+  void registerMetrics() {
+    FunctionCounter.builder(METRICS_PREFIX + "hits", hits, AtomicLong::get)
+        .description("Number of condition results served from the cache")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "misses", misses, AtomicLong::get)
+        .description("Number of conditions evaluated")
+        .register(Metrics.globalRegistry);
+    Gauge.builder(METRICS_PREFIX + "size", this, ConditionResultCache::size)
+        .description("Number of condition results in the cache")
+        .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * Returns the cached result if the condition was last evaluated with the same inputs, otherwise
+   * evaluates the condition and caches the result.
+   */
+  public boolean getOrEvaluate(Glue glue, String dependentName, String conditionKey,
+      String inputsFingerprint, BooleanSupplier condition) {
+    if (maxSize <= 0) {
+      misses.incrementAndGet();
+      return condition.getAsBoolean();
+    }
+    var key = new Key(glue.getMetadata().getUid(), dependentName, conditionKey);
+    synchronized (cache) {
+      var cached = cache.get(key);
+      if (cached != null && cached.inputsFingerprint().equals(inputsFingerprint)) {
+        hits.incrementAndGet();
+        return cached.value();
+      }
+    }
+    misses.incrementAndGet();
+    var res = condition.getAsBoolean();
+    synchronized (cache) {
+      cache.put(key, new Result(inputsFingerprint, res));
+    }
+    return res;
+  }
+
+  public void remove(Glue glue) {
+    synchronized (cache) {
+      cache.keySet().removeIf(k -> Objects.equals(k.glueUid(), glue.getMetadata().getUid()));
+    }
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private record Key(String glueUid, String dependentName, String conditionKey) {
+  }
+
+  private record Result(String inputsFingerprint, boolean value) {
+  }
+}
@@ -0,0 +1,414 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.glue.GlueException;
+import io.javaoperatorsdk.operator.glue.ObjectMetaProperties;
+
+/**
+ * Small expression language for conditions, evaluated directly over the resources. Supports paths
+ * ({@code target.status.replicas}, {@code target.data["my-key"]}, {@code target.spec.ports[0]}),
+ * string, number, boolean and {@code null} literals, comparison operators ({@code ==, !=, <, <=,
+ * >, >=}), logical operators ({@code &&, ||, !}) and parentheses. Not existing properties are
+ * evaluated as {@code null}. Numbers are compared by value, regardless of their type.
+ * <p>
+ * Expressions are compiled once and cached by their text, the least recently used ones are evicted
+ * once {@link #MAX_COMPILED_EXPRESSIONS} are cached.
+ */
+public final class Expression {
+
+  public static final int MAX_COMPILED_EXPRESSIONS = 1000;
+
+  private static final Map<String, Expression> compiledExpressions =
+      new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
+          return size() > MAX_COMPILED_EXPRESSIONS;
+        }
+      };
+
+  private final String text;
+  private final Node root;
+  private final Set<String> variables;
+
+  private Expression(String text, Node root, Set<String> variables) {
+    this.text = text;
+    this.root = root;
+    this.variables = variables;
+  }
+
+  public static Expression compile(String text) {
+    synchronized (compiledExpressions) {
+      var compiled = compiledExpressions.get(text);
+      if (compiled != null) {
+        return compiled;
+      }
+    }
+    // parsing is done outside the lock, in the worst case the same expression is parsed more times
+    var parser = new Parser(text);
+    var root = parser.parse();
+    var compiled = new Expression(text, root, Collections.unmodifiableSet(parser.variables));
+    synchronized (compiledExpressions) {
+      compiledExpressions.putIfAbsent(text, compiled);
+    }
+    return compiled;
+  }
+
+  /**
+   * Evaluates the expression as a condition, {@code null} is considered to be {@code false}.
+   *
+   * @param variables provides the value of the variables (the first element of paths)
+   */
+  public boolean isTrue(Function<String, Object> variables) {
+    return toBoolean(root.evaluate(variables), text);
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  /** Variables referenced in the expression, the first element of paths. */
+  public Set<String> getVariables() {
+    return variables;
+  }
+
+  private static boolean toBoolean(Object value, String text) {
+    if (value == null) {
+      return false;
+    }
+    if (value instanceof Boolean b) {
+      return b;
+    }
+    throw new GlueException(
+        "Expression is not evaluated to boolean: '" + text + "' value: " + value);
+  }
+
+  private interface Node {
+    Object evaluate(Function<String, Object> variables);
+  }
+
+  private record Literal(Object value) implements Node {
+    @Override
+    public Object evaluate(Function<String, Object> variables) {
+      return value;
+    }
+  }
+
+  private record Path(String variable, List<Object> segments) implements Node {
+    @Override
+    public Object evaluate(Function<String, Object> variables) {
+      var value = variables.apply(variable);
+      for (Object segment : segments) {
+        if (value == null) {
+          return null;
+        }
+        value = segment instanceof Integer index ? element(value, index)
+            : property(value, (String) segment);
+      }
+      return value;
+    }
+
+    private static Object element(Object value, int index) {
+      if (value instanceof List<?> list) {
+        return index >= 0 && index < list.size() ? list.get(index) : null;
+      }
+      return null;
+    }
+
+    private static Object property(Object value, String name) {
+      if (value instanceof GenericKubernetesResource resource) {
+        return switch (name) {
+          case "apiVersion" -> resource.getApiVersion();
+          case "kind" -> resource.getKind();
+          case "metadata" -> resource.getMetadata();
+          default -> resource.getAdditionalProperties().get(name);
+        };
+      } else if (value instanceof ObjectMeta metadata) {
+        return ObjectMetaProperties.get(metadata, name);
+      } else if (value instanceof Map<?, ?> map) {
+        return map.get(name);
+      }
+      return null;
+    }
+  }
+
+  private record Not(Node operand, String text) implements Node {
+    @Override
+    public Object evaluate(Function<String, Object> variables) {
+      return !toBoolean(operand.evaluate(variables), text);
+    }
+  }
+
+  private record Logical(boolean and, Node left, Node right, String text) implements Node {
+    @Override
+    public Object evaluate(Function<String, Object> variables) {
+      var leftValue = toBoolean(left.evaluate(variables), text);
+      if (and != leftValue) {
+        // short circuit, false for && and true for ||
+        return leftValue;
+      }
+      return toBoolean(right.evaluate(variables), text);
+    }
+  }
+
+  private record Comparison(String operator, Node left, Node right) implements Node {
+    @Override
+    public Object evaluate(Function<String, Object> variables) {
+      var leftValue = left.evaluate(variables);
+      var rightValue = right.evaluate(variables);
+      return switch (operator) {
+        case "==" -> valueEquals(leftValue, rightValue);
+        case "!=" -> !valueEquals(leftValue, rightValue);
+        default -> {
+          var res = compare(leftValue, rightValue);
+          if (res == null) {
+            yield false;
+          }
+          yield switch (operator) {
+            case "<" -> res < 0;
+            case "<=" -> res <= 0;
+            case ">" -> res > 0;
+            default -> res >= 0;
+          };
+        }
+      };
+    }
+
+    private static boolean valueEquals(Object left, Object right) {
+      if (left instanceof Number l && right instanceof Number r) {
+        return toBigDecimal(l).compareTo(toBigDecimal(r)) == 0;
+      }
+      return Objects.equals(left, right);
+    }
+
+    private static Integer compare(Object left, Object right) {
+      if (left instanceof Number l && right instanceof Number r) {
+        return toBigDecimal(l).compareTo(toBigDecimal(r));
+      }
+      if (left instanceof String l && right instanceof String r) {
+        return l.compareTo(r);
+      }
+      return null;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+      return number instanceof BigDecimal b ? b : new BigDecimal(number.toString());
+    }
+  }
+
+  private static class Parser {
+
+    private final String text;
+    private final Set<String> variables = new HashSet<>();
+    private int position = 0;
+
+    private Parser(String text) {
+      this.text = text;
+    }
+
+    Node parse() {
+      var res = or();
+      skipWhitespace();
+      if (position < text.length()) {
+        throw error("Unexpected character '" + text.charAt(position) + "'");
+      }
+      return res;
+    }
+
+    private Node or() {
+      var res = and();
+      while (consume("||")) {
+        res = new Logical(false, res, and(), text);
+      }
+      return res;
+    }
+
+    private Node and() {
+      var res = comparison();
+      while (consume("&&")) {
+        res = new Logical(true, res, comparison(), text);
+      }
+      return res;
+    }
+
+    private Node comparison() {
+      var res = unary();
+      for (String operator : List.of("==", "!=", "<=", ">=", "<", ">")) {
+        if (consume(operator)) {
+          return new Comparison(operator, res, unary());
+        }
+      }
+      return res;
+    }
+
+    private Node unary() {
+      skipWhitespace();
+      if (peek() == '!' && !text.startsWith("!=", position)) {
+        position++;
+        return new Not(unary(), text);
+      }
+      return primary();
+    }
+
+    private Node primary() {
+      skipWhitespace();
+      char c = peek();
+      if (c == '(') {
+        position++;
+        var res = or();
+        expect(")");
+        return res;
+      } else if (c == '"' || c == '\'') {
+        return new Literal(string());
+      } else if (Character.isDigit(c) || c == '-') {
+        return new Literal(number());
+      } else if (isIdentifierStart(c)) {
+        var identifier = identifier();
+        return switch (identifier) {
+          case "true" -> new Literal(true);
+          case "false" -> new Literal(false);
+          case "null" -> new Literal(null);
+          default -> path(identifier);
+        };
+      }
+      throw error(c == 0 ? "Unexpected end of expression" : "Unexpected character '" + c + "'");
+    }
+
+    private Node path(String variable) {
+      variables.add(variable);
+      List<Object> segments = new ArrayList<>();
+      while (true) {
+        if (peek() == '.') {
+          position++;
+          if (!isIdentifierStart(peek())) {
+            throw error("Property name expected");
+          }
+          segments.add(identifier());
+        } else if (peek() == '[') {
+          position++;
+          skipWhitespace();
+          char c = peek();
+          if (c == '"' || c == '\'') {
+            segments.add(string());
+          } else if (Character.isDigit(c)) {
+            segments.add(index());
+          } else {
+            throw error("String or index expected");
+          }
+          expect("]");
+        } else {
+          return new Path(variable, segments);
+        }
+      }
+    }
+
+    private String identifier() {
+      int start = position;
+      while (position < text.length() && (Character.isLetterOrDigit(text.charAt(position))
+          || text.charAt(position) == '_' || text.charAt(position) == '$')) {
+        position++;
+      }
+      return text.substring(start, position);
+    }
+
+    private String string() {
+      char quote = text.charAt(position++);
+      var res = new StringBuilder();
+      while (position < text.length() && text.charAt(position) != quote) {
+        char c = text.charAt(position++);
+        if (c == '\\' && position < text.length()) {
+          c = text.charAt(position++);
+        }
+        res.append(c);
+      }
+      if (position >= text.length()) {
+        throw error("Unterminated string");
+      }
+      position++;
+      return res.toString();
+    }
+
+    private Number number() {
+      int start = position;
+      if (peek() == '-') {
+        position++;
+      }
+      digits();
+      if (peek() == '.') {
+        position++;
+        digits();
+        return new BigDecimal(text.substring(start, position));
+      }
+      try {
+        return Long.parseLong(text.substring(start, position));
+      } catch (NumberFormatException e) {
+        throw error("Number out of range");
+      }
+    }
+
+    private int index() {
+      var digits = digits();
+      try {
+        return Integer.parseInt(digits);
+      } catch (NumberFormatException e) {
+        throw error("Index out of range");
+      }
+    }
+
+    private String digits() {
+      int start = position;
+      while (position < text.length() && Character.isDigit(text.charAt(position))) {
+        position++;
+      }
+      if (start == position) {
+        throw error("Number expected");
+      }
+      return text.substring(start, position);
+    }
+
+    private boolean consume(String token) {
+      skipWhitespace();
+      if (text.startsWith(token, position)) {
+        position += token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(String token) {
+      if (!consume(token)) {
+        throw error("'" + token + "' expected");
+      }
+    }
+
+    private char peek() {
+      return position < text.length() ? text.charAt(position) : 0;
+    }
+
+    private void skipWhitespace() {
+      while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+        position++;
+      }
+    }
+
+    private static boolean isIdentifierStart(char c) {
+      return Character.isLetter(c) || c == '_' || c == '$';
+    }
+
+    private GlueException error(String message) {
+      return new GlueException(
+          message + " at position " + position + " in expression: '" + text + "'");
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
+
+/**
+ * Condition defined by an {@link Expression}. Same as for {@link JavaScripCondition}, the target
+ * resource of the dependent resource is accessible as {@code target}, the other resources of the
+ * workflow by their name.
+ */
+public class ExpressionCondition implements CacheableCondition<GenericKubernetesResource> {
+
+  private static final String TARGET_NAME = "target";
+
+  private final Expression expression;
+
+  public ExpressionCondition(String expression) {
+    this.expression = Expression.compile(expression);
+  }
+
+  @Override
+  public boolean isMet(DependentResource<GenericKubernetesResource, Glue> dependentResource,
+      Glue glue, Context<Glue> context) {
+    return expression.isTrue(name -> TARGET_NAME.equals(name)
+        ? dependentResource.getSecondaryResource(glue, context).orElse(null)
+        : RenderContext.of(glue, context).data().get(name));
+  }
+
+  @Override
+  public String cacheKey() {
+    return "ExpressionCondition:" + expression.getText();
+  }
+
+  @Override
+  public Set<String> referencedResourceNames(Glue glue) {
+    var res = new HashSet<>(expression.getVariables());
+    res.remove(TARGET_NAME);
+    return res;
+  }
+}
@@ -1,91 +1,108 @@
 package io.javaoperatorsdk.operator.glue.conditions;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import javax.script.*;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
-import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
-import io.javaoperatorsdk.operator.glue.GlueException;
 import io.javaoperatorsdk.operator.glue.Utils;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
-import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
+
+import static io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler.WORKFLOW_METADATA_KEY;
 
-public class JavaScripCondition implements Condition<GenericKubernetesResource, Glue> {
+/**
+ * Condition evaluated by a JavaScript. The target resource of the dependent resource is accessible
+ * as {@code target}, the other resources of the workflow by their name. Only the resources
+ * referenced in the script are bound. Resources are read-only views, the script itself is the same
+ * for all evaluations.
+ */
+public class JavaScripCondition implements CacheableCondition<GenericKubernetesResource> {
 
   private static final Logger LOG = LoggerFactory.getLogger(JavaScripCondition.class);
 
-  private static final String RESOURCE_AS_STRING_NAME_SUFFIX = "Str";
+  private static final String TARGET_NAME = "target";
+  private static final Set<String> GLOBAL_OBJECT_IDENTIFIERS = Set.of("globalThis", "this");
 
   private final String inputScript;
+  private final JavaScriptEvaluator javaScriptEvaluator;
 
-  public JavaScripCondition(String inputScript) {
+  public JavaScripCondition(String inputScript, JavaScriptEvaluator javaScriptEvaluator) {
     this.inputScript = inputScript;
+    this.javaScriptEvaluator = javaScriptEvaluator;
   }
 
   @Override
   public boolean isMet(DependentResource<GenericKubernetesResource, Glue> dependentResource,
       Glue glue,
       Context<Glue> context) {
-    try {
-      var start = LocalDateTime.now();
-      ScriptEngineManager manager = new ScriptEngineManager();
-      ScriptEngine engine = manager.getEngineByName("js");
-
-      StringBuilder finalScript = new StringBuilder();
-      addTargetResourceToScript(dependentResource, glue, context, engine, finalScript);
-      addSecondaryResourceToScript(glue, context, engine, finalScript);
-
-      finalScript.append("\n").append(inputScript);
-
-      LOG.debug("Final Condition JS:\n{}", finalScript);
-
-      CompiledScript script = ((Compilable) engine).compile(finalScript.toString());
-      var res = (boolean) script.eval();
-      LOG.debug("JS Condition evaluated as: {} within {}ms", res,
-          ChronoUnit.MILLIS.between(start, LocalDateTime.now()));
-      return res;
-    } catch (ScriptException e) {
-      throw new GlueException(e);
-    }
+    Map<String, Object> bindings = new HashMap<>();
+    addSecondaryResources(glue, context, bindings);
+    addTargetResource(dependentResource, glue, context, bindings);
+
+    var res = javaScriptEvaluator.evaluate(inputScript, bindings, dependentResource.name());
+    LOG.debug("JS Condition evaluated as: {} for script:\n{}", res, inputScript);
+    return res;
   }
 
-  private static void addSecondaryResourceToScript(Glue glue,
-      Context<Glue> context,
-      ScriptEngine engine, StringBuilder finalScript) {
-    Map<String, String> namedSecondaryResources =
-        nameAndSerializeSecondaryResources(context, glue);
-    namedSecondaryResources.forEach((k, v) -> {
-      var stringKey = k + RESOURCE_AS_STRING_NAME_SUFFIX;
-      engine.put(stringKey, v);
-      finalScript.append("const ").append(k).append(" = JSON.parse(").append(stringKey)
-          .append(");\n");
+  private void addSecondaryResources(Glue glue, Context<Glue> context,
+      Map<String, Object> bindings) {
+    var data = RenderContext.of(glue, context).data();
+    var names = referencedResourceNames(glue);
+    if (names == null) {
+      names = data.keySet();
+    }
+    names.forEach(name -> {
+      if (!WORKFLOW_METADATA_KEY.equals(name) && data.containsKey(name)) {
+        bindings.put(name, ReadOnlyProxies.proxyOf(data.get(name)));
+      }
     });
   }
 
-  private static void addTargetResourceToScript(
+  @Override
+  public String cacheKey() {
+    return "JSCondition:" + inputScript;
+  }
+
+  /**
+   * Only the resources referenced by the script are bound. Resources can be accessed also
+   * dynamically through the global object, in that case all of them are bound.
+   */
+  @Override
+  public Set<String> referencedResourceNames(Glue glue) {
+    var identifiers = javaScriptEvaluator.identifiers(inputScript);
+    if (GLOBAL_OBJECT_IDENTIFIERS.stream().anyMatch(identifiers::contains)) {
+      return null;
+    }
+    Set<String> res = new HashSet<>();
+    glue.getSpec().getChildResources().stream()
+        .filter(r -> identifiers.contains(r.getName()))
+        .forEach(r -> res.add(r.getName()));
+    glue.getSpec().getRelatedResources().stream()
+        .filter(r -> identifiers.contains(r.getName()))
+        .forEach(r -> {
+          if (r.getResourceNames().size() == 1) {
+            res.add(r.getName());
+          } else {
+            r.getResourceNames()
+                .forEach(n -> res.add(r.getName() + Utils.RESOURCE_NAME_DELIMITER + n));
+          }
+        });
+    return res;
+  }
+
+  private static void addTargetResource(
       DependentResource<GenericKubernetesResource, Glue> dependentResource,
       Glue glue,
-      Context<Glue> context, ScriptEngine engine, StringBuilder finalScript) {
+      Context<Glue> context, Map<String, Object> bindings) {
     var target = dependentResource.getSecondaryResource(glue, context);
-    target.ifPresent(t -> {
-      engine.put("targetStr", Serialization.asJson(t));
-      finalScript.append("const target = JSON.parse(targetStr);\n");
-    });
-  }
-
-  private static Map<String, String> nameAndSerializeSecondaryResources(
-      Context<Glue> context, Glue glue) {
-    return Utils.getActualResourcesByNameInWorkflow(context, glue).entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, e -> Serialization.asJson(e.getValue())));
+    target.ifPresent(t -> bindings.put(TARGET_NAME, ReadOnlyProxies.proxyOf(t)));
   }
 
 }
@@ -0,0 +1,223 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.ResourceLimits;
+import org.graalvm.polyglot.Source;
+
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.GlueException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Evaluates JavaScript conditions. All the conditions share a single GraalVM polyglot engine, thus
+ * code compiled for a script is reused across the evaluations. Sources are cached per script, the
+ * least recently used ones are evicted once the cache reaches its maximum size. Each
+ * evaluation gets a new context, so globals set by a script (of a Glue) are never visible to other
+ * scripts.
+ * <p>
+ * The number of executed statements and the duration of an evaluation are limited, so a faulty
+ * script (like an infinite loop) does not block a reconciler thread. Note that the memory used by a
+ * script cannot be limited, that is supported only by Oracle GraalVM.
+ */
+@Singleton
+public class JavaScriptEvaluator {
+
+  public static final String EVALUATION_TIMER_NAME =
+      "glue.operator.condition.javascript.evaluation";
+  public static final String LANGUAGE_ID = "js";
+  public static final long DEFAULT_STATEMENT_LIMIT = 1_000_000;
+  public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+  public static final int DEFAULT_SCRIPT_CACHE_MAX_SIZE = 1000;
+
+  // created on first use, so no engine is started if there are no JavaScript conditions
+  private volatile Engine engine;
+  private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z_$][\\w$]*");
+
+  private final int scriptCacheMaxSize;
+  private final Map<String, Script> scripts;
+  // by condition name, names of the dependent resources are not that many
+  private final Map<String, Timer> evaluationTimers = new ConcurrentHashMap<>();
+
+  private final long statementLimit;
+  private final Duration timeout;
+  private final ResourceLimits resourceLimits;
+  private final ScheduledExecutorService timeoutExecutor =
+      Executors.newSingleThreadScheduledExecutor(r -> {
+        var thread = new Thread(r, "javascript-condition-timeout");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  @Inject
+  public JavaScriptEvaluator(ControllerConfig controllerConfig) {
+    this(controllerConfig.javascriptStatementLimit(),
+        Duration.ofMillis(controllerConfig.javascriptTimeoutMillis()),
+        controllerConfig.javascriptScriptCacheMaxSize());
+  }
+
+  public JavaScriptEvaluator() {
+    this(DEFAULT_STATEMENT_LIMIT, DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * @param statementLimit maximal number of statements executed by an evaluation, zero (or less)
+   *        means no limit
+   * @param timeout maximal duration of an evaluation, zero (or less) means no limit
+   */
+  public JavaScriptEvaluator(long statementLimit, Duration timeout) {
+    this(statementLimit, timeout, DEFAULT_SCRIPT_CACHE_MAX_SIZE);
+  }
+
+  /**
+   * @param statementLimit maximal number of statements executed by an evaluation, zero (or less)
+   *        means no limit
+   * @param timeout maximal duration of an evaluation, zero (or less) means no limit
+   * @param scriptCacheMaxSize maximal number of scripts cached, zero (or less) disables caching
+   */
+  public JavaScriptEvaluator(long statementLimit, Duration timeout, int scriptCacheMaxSize) {
+    this.statementLimit = statementLimit;
+    this.timeout = timeout;
+    this.resourceLimits = statementLimit > 0
+        ? ResourceLimits.newBuilder().statementLimit(statementLimit, null).build()
+        : null;
+    this.scriptCacheMaxSize = scriptCacheMaxSize;
+    this.scripts = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Script> eldest) {
+        return size() > JavaScriptEvaluator.this.scriptCacheMaxSize;
+      }
+    };
+  }
+
+  /**
+   * Evaluates the script with the provided values bound by name. If the script exceeds the
+   * statement limit or the timeout, the evaluation is cancelled and
+   * {@link ConditionLimitExceededException} is thrown.
+   *
+   * @param conditionName name used to report the evaluation latency, usually the name of the
+   *        dependent resource the condition belongs to
+   */
+  public boolean evaluate(String script, Map<String, ?> bindings, String conditionName) {
+    var source = script(script).source();
+    var sample = Timer.start();
+    var context = createContext();
+    var timeoutFuture = timeout.isZero() || timeout.isNegative() ? null
+        : timeoutExecutor.schedule(() -> context.close(true), timeout.toMillis(),
+            TimeUnit.MILLISECONDS);
+    try {
+      var contextBindings = context.getBindings(LANGUAGE_ID);
+      bindings.forEach(contextBindings::putMember);
+      var res = context.eval(source);
+      if (!res.isBoolean()) {
+        throw new GlueException("JavaScript condition did not evaluate to boolean: " + res);
+      }
+      return res.asBoolean();
+    } catch (PolyglotException e) {
+      if (e.isCancelled() || e.isResourceExhausted()) {
+        throw new ConditionLimitExceededException(
+            "JavaScript condition exceeded the limits (statement limit: " + statementLimit
+                + ", timeout: " + timeout.toMillis() + "ms) for: " + conditionName,
+            e);
+      }
+      throw new GlueException(e);
+    } finally {
+      if (timeoutFuture != null) {
+        timeoutFuture.cancel(false);
+      }
+      context.close(true);
+      sample.stop(evaluationTimers.computeIfAbsent(conditionName == null ? "" : conditionName,
+          name -> Timer.builder(EVALUATION_TIMER_NAME)
+              .description("Evaluation time of JavaScript conditions")
+              .tag("condition", name)
+              .register(Metrics.globalRegistry)));
+    }
+  }
+
+  /**
+   * Identifiers in the script, including also the ones in comments and string literals. Used to
+   * decide which resources the script references, so it errs on the side of including more.
+   */
+  public Set<String> identifiers(String script) {
+    return script(script).identifiers();
+  }
+
+  private Script script(String script) {
+    if (scriptCacheMaxSize <= 0) {
+      return createScript(script);
+    }
+    synchronized (scripts) {
+      var cached = scripts.get(script);
+      if (cached != null) {
+        return cached;
+      }
+    }
+    // created outside the lock, in the worst case the same script is created more times
+    var created = createScript(script);
+    synchronized (scripts) {
+      scripts.putIfAbsent(script, created);
+    }
+    return created;
+  }
+
+  private static Script createScript(String script) {
+    Set<String> identifiers = new HashSet<>();
+    var matcher = IDENTIFIER_PATTERN.matcher(script);
+    while (matcher.find()) {
+      identifiers.add(matcher.group());
+    }
+    return new Script(Source.create(LANGUAGE_ID, script), Collections.unmodifiableSet(identifiers));
+  }
+
+  private record Script(Source source, Set<String> identifiers) {
+  }
+
+  private Context createContext() {
+    var builder = Context.newBuilder(LANGUAGE_ID).engine(engine())
+        // makes Array.prototype functions (like filter) available on the read-only list views
+        .option("js.foreign-object-prototype", "true");
+    if (resourceLimits != null) {
+      builder.resourceLimits(resourceLimits);
+    }
+    return builder.build();
+  }
+
+  private Engine engine() {
+    if (engine == null) {
+      synchronized (this) {
+        if (engine == null) {
+          engine = Engine.newBuilder(LANGUAGE_ID)
+              .option("engine.WarnInterpreterOnly", "false")
+              .build();
+        }
+      }
+    }
+    return engine;
+  }
+
+  @PreDestroy
+  void close() {
+    timeoutExecutor.shutdownNow();
+    if (engine != null) {
+      engine.close();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.util.Collection;
+import java.util.TreeSet;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+
+/**
+ * Reuses the last result of a condition if the uid and resource version of the target resource and
+ * the resources referenced by the condition are the same as at the last evaluation.
+ */
+public class MemoizedCondition<R extends HasMetadata> implements Condition<R, Glue> {
+
+  private static final String MISSING_RESOURCE = "-";
+
+  private final CacheableCondition<R> condition;
+  private final ConditionResultCache conditionResultCache;
+
+  public MemoizedCondition(CacheableCondition<R> condition,
+      ConditionResultCache conditionResultCache) {
+    this.condition = condition;
+    this.conditionResultCache = conditionResultCache;
+  }
+
+  @Override
+  public boolean isMet(DependentResource<R, Glue> dependentResource, Glue glue,
+      Context<Glue> context) {
+    return conditionResultCache.getOrEvaluate(glue, dependentResource.name(),
+        condition.cacheKey(), inputsFingerprint(dependentResource, glue, context),
+        () -> condition.isMet(dependentResource, glue, context));
+  }
+
+  private String inputsFingerprint(DependentResource<R, Glue> dependentResource, Glue glue,
+      Context<Glue> context) {
+    var res = new StringBuilder(resourceFingerprint(
+        dependentResource.getSecondaryResource(glue, context).orElse(null)));
+    var data = RenderContext.of(glue, context).data();
+    Collection<String> names = condition.referencedResourceNames(glue);
+    if (names == null) {
+      names = data.keySet();
+    }
+    new TreeSet<>(names).forEach(name -> res.append('|').append(name).append('=')
+        .append(resourceFingerprint(data.get(name))));
+    return res.toString();
+  }
+
+  private static String resourceFingerprint(Object resource) {
+    if (resource instanceof HasMetadata r) {
+      return r.getMetadata().getUid() + "/" + r.getMetadata().getResourceVersion();
+    } else if (resource instanceof ObjectMeta metadata) {
+      return metadata.getUid() + "/" + metadata.getResourceVersion();
+    }
+    return MISSING_RESOURCE;
+  }
+}
@@ -0,0 +1,191 @@
+package io.javaoperatorsdk.operator.glue.conditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.graalvm.polyglot.proxy.ProxyObject;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.glue.ObjectMetaProperties;
+
+/**
+ * Read-only views of resources for JavaScript conditions. Values are wrapped lazily, just when
+ * accessed by the script, so resources are not serialized to JSON and parsed again for every
+ * evaluation. Strings, numbers and booleans are passed as they are and are seen as primitive values
+ * by the script.
+ */
+final class ReadOnlyProxies {
+
+  private ReadOnlyProxies() {}
+
+  @SuppressWarnings("unchecked")
+  static Object proxyOf(Object value) {
+    if (value instanceof GenericKubernetesResource resource) {
+      return new ResourceProxy(resource);
+    } else if (value instanceof ObjectMeta metadata) {
+      return new MetadataProxy(metadata);
+    } else if (value instanceof Map<?, ?> map) {
+      return new MapProxy((Map<String, Object>) map);
+    } else if (value instanceof List<?> list) {
+      return new ListProxy((List<Object>) list);
+    } else {
+      return value;
+    }
+  }
+
+  private static UnsupportedOperationException readOnly() {
+    return new UnsupportedOperationException("Resources are read-only in conditions");
+  }
+
+  private static class MapProxy implements ProxyObject {
+
+    private final Map<String, Object> map;
+
+    private MapProxy(Map<String, Object> map) {
+      this.map = map;
+    }
+
+    @Override
+    public Object getMember(String key) {
+      return proxyOf(map.get(key));
+    }
+
+    @Override
+    public Object getMemberKeys() {
+      return ProxyArray.fromArray(map.keySet().toArray());
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+      return map.containsKey(key);
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean removeMember(String key) {
+      throw readOnly();
+    }
+  }
+
+  private static class ResourceProxy implements ProxyObject {
+
+    private static final String API_VERSION = "apiVersion";
+    private static final String KIND = "kind";
+    private static final String METADATA = "metadata";
+
+    private final GenericKubernetesResource resource;
+
+    private ResourceProxy(GenericKubernetesResource resource) {
+      this.resource = resource;
+    }
+
+    @Override
+    public Object getMember(String key) {
+      return switch (key) {
+        case API_VERSION -> resource.getApiVersion();
+        case KIND -> resource.getKind();
+        case METADATA -> proxyOf(resource.getMetadata());
+        default -> proxyOf(resource.getAdditionalProperties().get(key));
+      };
+    }
+
+    @Override
+    public Object getMemberKeys() {
+      var keys = new ArrayList<Object>(List.of(API_VERSION, KIND, METADATA));
+      keys.addAll(resource.getAdditionalProperties().keySet());
+      return ProxyArray.fromList(keys);
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+      return switch (key) {
+        case API_VERSION -> resource.getApiVersion() != null;
+        case KIND -> resource.getKind() != null;
+        case METADATA -> resource.getMetadata() != null;
+        default -> resource.getAdditionalProperties().containsKey(key);
+      };
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean removeMember(String key) {
+      throw readOnly();
+    }
+  }
+
+  // metadata is the only typed part of the resources, just the properties accessed are read
+  private static class MetadataProxy implements ProxyObject {
+
+    private final ObjectMeta metadata;
+
+    private MetadataProxy(ObjectMeta metadata) {
+      this.metadata = metadata;
+    }
+
+    @Override
+    public Object getMember(String key) {
+      return proxyOf(ObjectMetaProperties.get(metadata, key));
+    }
+
+    @Override
+    public Object getMemberKeys() {
+      return ProxyArray.fromList(new ArrayList<>(ObjectMetaProperties.names(metadata)));
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+      return ObjectMetaProperties.get(metadata, key) != null;
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean removeMember(String key) {
+      throw readOnly();
+    }
+  }
+
+  private static class ListProxy implements ProxyArray {
+
+    private final List<Object> list;
+
+    private ListProxy(List<Object> list) {
+      this.list = list;
+    }
+
+    @Override
+    public Object get(long index) {
+      return proxyOf(list.get(Math.toIntExact(index)));
+    }
+
+    @Override
+    public void set(long index, Value value) {
+      throw readOnly();
+    }
+
+    @Override
+    public boolean remove(long index) {
+      throw readOnly();
+    }
+
+    @Override
+    public long getSize() {
+      return list.size();
+    }
+  }
+}
@@ -1,13 +1,14 @@
 package io.javaoperatorsdk.operator.glue.conditions;
 
+import java.util.Set;
+
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
-import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 
-public class ReadyCondition<R extends HasMetadata> implements Condition<R, Glue> {
+public class ReadyCondition<R extends HasMetadata> implements CacheableCondition<R> {
 
   private final Readiness readiness = Readiness.getInstance();
 
@@ -26,4 +27,14 @@ public class ReadyCondition<R extends HasMetadata> implements Condition<R, Glue>
         .orElse(false);
     return negated != met;
   }
+
+  @Override
+  public String cacheKey() {
+    return "ReadyCondition:" + negated;
+  }
+
+  @Override
+  public Set<String> referencedResourceNames(Glue glue) {
+    return Set.of();
+  }
 }
@@ -0,0 +1,58 @@
+package io.javaoperatorsdk.operator.glue.customresource.glue;
+
+import java.util.Objects;
+
+/**
+ * Number of resources of a bulk child resource applied, that is created or updated, in the last
+ * reconciliation.
+ */
+public class BulkProgress {
+
+  private int applied;
+  private int total;
+
+  public BulkProgress() {}
+
+  public BulkProgress(int applied, int total) {
+    this.applied = applied;
+    this.total = total;
+  }
+
+  public int getApplied() {
+    return applied;
+  }
+
+  public BulkProgress setApplied(int applied) {
+    this.applied = applied;
+    return this;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public BulkProgress setTotal(int total) {
+    this.total = total;
+    return this;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o)
+      return true;
+    if (o == null || getClass() != o.getClass())
+      return false;
+    BulkProgress that = (BulkProgress) o;
+    return applied == that.applied && total == that.total;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(applied, total);
+  }
+
+  @Override
+  public String toString() {
+    return applied + "/" + total;
+  }
+}
@@ -1,7 +1,19 @@
 package io.javaoperatorsdk.operator.glue.customresource.glue;
 
+import java.util.Map;
+
 import io.javaoperatorsdk.operator.glue.customresource.AbstractStatus;
 
 public class GlueStatus extends AbstractStatus {
 
+  // by the name of the bulk child resource
+  private Map<String, BulkProgress> bulkProgress;
+
+  public Map<String, BulkProgress> getBulkProgress() {
+    return bulkProgress;
+  }
+
+  public void setBulkProgress(Map<String, BulkProgress> bulkProgress) {
+    this.bulkProgress = bulkProgress;
+  }
 }
@@ -19,6 +19,9 @@ public class RelatedResourceSpec {
   private String kind;
   private boolean clusterScoped = Boolean.FALSE;
   private List<String> resourceNames;
+  // only the metadata of the resources is used, the informer caches only the metadata if all the
+  // glues using the resource type need only metadata
+  private boolean metadataOnly = Boolean.FALSE;
 
   @PreserveUnknownFields
   private Object statusPatch;
@@ -76,7 +79,8 @@ public class RelatedResourceSpec {
     if (o == null || getClass() != o.getClass())
       return false;
     RelatedResourceSpec that = (RelatedResourceSpec) o;
-    return clusterScoped == that.clusterScoped && Objects.equals(name, that.name)
+    return clusterScoped == that.clusterScoped && metadataOnly == that.metadataOnly
+        && Objects.equals(name, that.name)
         && Objects.equals(namespace, that.namespace) && Objects.equals(apiVersion, that.apiVersion)
         && Objects.equals(kind, that.kind) && Objects.equals(resourceNames, that.resourceNames)
         && Objects.equals(statusPatch, that.statusPatch)
@@ -85,8 +89,8 @@ public class RelatedResourceSpec {
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, namespace, apiVersion, kind, clusterScoped, resourceNames,
-        statusPatch, statusPatchTemplate);
+    return Objects.hash(name, namespace, apiVersion, kind, clusterScoped, metadataOnly,
+        resourceNames, statusPatch, statusPatchTemplate);
   }
 
   public boolean isClusterScoped() {
@@ -97,6 +101,15 @@ public class RelatedResourceSpec {
     this.clusterScoped = clusterScoped;
   }
 
+  public boolean isMetadataOnly() {
+    return metadataOnly;
+  }
+
+  public RelatedResourceSpec setMetadataOnly(boolean metadataOnly) {
+    this.metadataOnly = metadataOnly;
+    return this;
+  }
+
   public Object getStatusPatch() {
     return statusPatch;
   }
@@ -8,7 +8,8 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
     property = "type")
 @JsonSubTypes({
     @JsonSubTypes.Type(value = ReadyConditionSpec.class, name = "ReadyCondition"),
-    @JsonSubTypes.Type(value = JavaScriptConditionSpec.class, name = "JSCondition")
+    @JsonSubTypes.Type(value = JavaScriptConditionSpec.class, name = "JSCondition"),
+    @JsonSubTypes.Type(value = ExpressionConditionSpec.class, name = "ExpressionCondition")
 })
 public class ConditionSpec {
 
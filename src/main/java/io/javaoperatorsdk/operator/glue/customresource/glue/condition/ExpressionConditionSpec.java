@@ -0,0 +1,15 @@
+package io.javaoperatorsdk.operator.glue.customresource.glue.condition;
+
+public class ExpressionConditionSpec extends ConditionSpec {
+
+  private String expression;
+
+  public String getExpression() {
+    return expression;
+  }
+
+  public ExpressionConditionSpec setExpression(String expression) {
+    this.expression = expression;
+    return this;
+  }
+}
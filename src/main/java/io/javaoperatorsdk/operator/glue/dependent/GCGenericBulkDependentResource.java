@@ -3,15 +3,19 @@ package io.javaoperatorsdk.operator.glue.dependent;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.GarbageCollected;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Matcher;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.WorkflowExecutor;
 import io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler;
+import io.javaoperatorsdk.operator.glue.templating.InputFingerprints;
 
 public class GCGenericBulkDependentResource extends GenericBulkDependentResource
     implements GarbageCollected<Glue> {
 
   public GCGenericBulkDependentResource(GenericTemplateHandler genericTemplateHandler,
-      String desiredTemplate, String name,
-      boolean clusterScoped, Matcher matcher) {
-    super(genericTemplateHandler, desiredTemplate, name, clusterScoped, matcher);
+      InputFingerprints inputFingerprints, String desiredTemplate, String name,
+      boolean clusterScoped, Matcher matcher, int applyConcurrency,
+      WorkflowExecutor workflowExecutor) {
+    super(genericTemplateHandler, inputFingerprints, desiredTemplate, name, clusterScoped,
+        matcher, applyConcurrency, workflowExecutor);
   }
 
 }
@@ -1,28 +1,172 @@
 package io.javaoperatorsdk.operator.glue.dependent;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.AggregatedOperatorException;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import io.javaoperatorsdk.operator.glue.customresource.glue.BulkProgress;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Matcher;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.WorkflowExecutor;
 import io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler;
+import io.javaoperatorsdk.operator.glue.templating.InputFingerprints;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
 import io.javaoperatorsdk.operator.processing.dependent.BulkDependentResource;
 
 import static io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY;
 
+/**
+ * Child resource with a template rendering a list of resources. The resources are applied (and
+ * deleted) concurrently, at most {@code applyConcurrency} at a time and within the global limit of
+ * the {@link WorkflowExecutor}, errors of the resources are aggregated after all the resources were
+ * processed. The number of resources created or updated is reported
+ * in the status of the Glue.
+ */
 public class GenericBulkDependentResource extends
     GenericDependentResource implements
     BulkDependentResource<GenericKubernetesResource, Glue, String> {
 
+  private static final String BULK_PROGRESS_KEY = BulkProgress.class.getName();
+
+  private final int applyConcurrency;
+  private final WorkflowExecutor workflowExecutor;
+
   public GenericBulkDependentResource(GenericTemplateHandler genericTemplateHandler,
-      String desiredTemplate, String name,
+      InputFingerprints inputFingerprints, String desiredTemplate, String name,
       boolean clusterScoped,
-      Matcher matcher) {
-    super(genericTemplateHandler, desiredTemplate, name, null, null, clusterScoped, matcher);
+      Matcher matcher, int applyConcurrency, WorkflowExecutor workflowExecutor) {
+    super(genericTemplateHandler, inputFingerprints, desiredTemplate, name, null, null,
+        clusterScoped, matcher);
+    this.applyConcurrency = applyConcurrency;
+    this.workflowExecutor = workflowExecutor;
+  }
+
+  /** Progress of the bulk child resources reconciled, by the name of the child resource. */
+  public static Map<String, BulkProgress> bulkProgress(Context<Glue> context) {
+    var managedContext = context.managedWorkflowAndDependentResourceContext();
+    if (managedContext == null) {
+      return new ConcurrentHashMap<>();
+    }
+    synchronized (managedContext) {
+      var progress = managedContext.get(BULK_PROGRESS_KEY, BulkProgressByName.class);
+      if (progress.isPresent()) {
+        return progress.get().progress();
+      }
+      var newProgress = new BulkProgressByName(new ConcurrentHashMap<>());
+      managedContext.put(BULK_PROGRESS_KEY, newProgress);
+      return newProgress.progress();
+    }
+  }
+
+  // the progress is stored in the managed context in a typed holder, a map could not be retrieved
+  // from it without an unchecked conversion
+  private record BulkProgressByName(Map<String, BulkProgress> progress) {
+  }
+
+  @Override
+  public ReconcileResult<GenericKubernetesResource> reconcile(Glue primary,
+      Context<Glue> context) {
+    var actualResources = getSecondaryResources(primary, context);
+    var desiredResources = desiredResources(primary, context);
+    var extraResources = new HashMap<>(actualResources);
+    extraResources.keySet().removeAll(desiredResources.keySet());
+
+    Map<String, Exception> errors = new ConcurrentHashMap<>();
+    applyConcurrently(extraResources.keySet(),
+        key -> deleteTargetResource(primary, extraResources.get(key), key, context), errors);
+    Map<String, ReconcileResult<GenericKubernetesResource>> results = new ConcurrentHashMap<>();
+    applyConcurrently(desiredResources.keySet(),
+        key -> results.put(key, reconcileResource(primary, desiredResources.get(key),
+            actualResources.get(key), context)),
+        errors);
+
+    // resources already matching the desired state are not applied
+    var applied = results.values().stream()
+        .filter(r -> r.getSingleOperation() != ReconcileResult.Operation.NONE)
+        .count();
+    bulkProgress(context).put(name, new BulkProgress((int) applied, desiredResources.size()));
+    throwIfErrors(errors);
+    return ReconcileResult.aggregatedResult(List.copyOf(results.values()));
+  }
+
+  @Override
+  public void delete(Glue primary, Context<Glue> context) {
+    var actualResources = getSecondaryResources(primary, context);
+    Map<String, Exception> errors = new ConcurrentHashMap<>();
+    applyConcurrently(actualResources.keySet(),
+        key -> deleteTargetResource(primary, actualResources.get(key), key, context), errors);
+    throwIfErrors(errors);
+  }
+
+  // same as reconciling a single resource in the framework
+  private ReconcileResult<GenericKubernetesResource> reconcileResource(Glue primary,
+      GenericKubernetesResource desired, GenericKubernetesResource actual,
+      Context<Glue> context) {
+    if (actual == null) {
+      var created = create(desired, primary, context);
+      onCreated(primary, created, context);
+      return ReconcileResult.resourceCreated(created);
+    }
+    var match = match(actual, desired, primary, context);
+    if (match.matched()) {
+      return ReconcileResult.noOperation(actual);
+    }
+    var updated = update(actual, match.computedDesired().orElse(desired), primary, context);
+    onUpdated(primary, updated, actual, context);
+    return ReconcileResult.resourceUpdated(updated);
+  }
+
+  private void applyConcurrently(Collection<String> keys, Consumer<String> apply,
+      Map<String, Exception> errors) {
+    if (applyConcurrency <= 1 || keys.size() <= 1) {
+      keys.forEach(key -> applyAndCollectError(key, apply, errors));
+      return;
+    }
+    var window = new Semaphore(applyConcurrency);
+    // the resources are applied holding global permits instead of the one of this dependent
+    workflowExecutor.runReleasingGlobalPermit(() -> {
+      // closing the executor waits for all the resources to be processed
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (var key : keys) {
+          window.acquireUninterruptibly();
+          executor.execute(() -> {
+            try {
+              workflowExecutor.runWithGlobalPermit(() -> applyAndCollectError(key, apply, errors));
+            } finally {
+              window.release();
+            }
+          });
+        }
+      }
+    });
+  }
+
+  private static void applyAndCollectError(String key, Consumer<String> apply,
+      Map<String, Exception> errors) {
+    try {
+      apply.accept(key);
+    } catch (RuntimeException e) {
+      errors.put(key, e);
+    }
+  }
+
+  private void throwIfErrors(Map<String, Exception> errors) {
+    if (!errors.isEmpty()) {
+      throw new AggregatedOperatorException(
+          "Error applying resources of bulk child resource: " + name, errors);
+    }
   }
 
   @Override
@@ -44,9 +188,7 @@ public class GenericBulkDependentResource extends
   @Override
   public Map<String, GenericKubernetesResource> getSecondaryResources(Glue glue,
       Context<Glue> context) {
-    return context.getSecondaryResources(GenericKubernetesResource.class).stream()
-        .filter(
-            r -> name.equals(r.getMetadata().getAnnotations().get(DEPENDENT_NAME_ANNOTATION_KEY)))
+    return SecondaryResourceIndex.of(context).byDependentName(name).stream()
         .collect(Collectors.toMap(r -> r.getMetadata().getName(), r -> r));
   }
 
@@ -54,6 +196,8 @@ public class GenericBulkDependentResource extends
   public void deleteTargetResource(Glue primary, GenericKubernetesResource resource, String key,
       Context<Glue> context) {
     context.getClient().resource(resource).delete();
+    RenderContext.of(primary, context).resourceDeleted(name, resource);
+    SecondaryResourceIndex.of(context).resourceDeleted(resource);
   }
 
 }
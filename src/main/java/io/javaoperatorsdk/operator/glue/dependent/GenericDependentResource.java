@@ -15,7 +15,10 @@ import io.javaoperatorsdk.operator.glue.Utils;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Matcher;
 import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.WorkflowContext;
 import io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler;
+import io.javaoperatorsdk.operator.glue.templating.InputFingerprints;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.dependent.Creator;
 import io.javaoperatorsdk.operator.processing.dependent.Updater;
@@ -38,8 +41,11 @@ public class GenericDependentResource
   protected final Matcher matcher;
 
   protected final GenericTemplateHandler genericTemplateHandler;
+  protected final InputFingerprints inputFingerprints;
+  private final int templateHash;
 
   public GenericDependentResource(GenericTemplateHandler genericTemplateHandler,
+      InputFingerprints inputFingerprints,
       GenericKubernetesResource desired, String name, String resourceName, String namespace,
       boolean clusterScoped, Matcher matcher) {
     super(new GroupVersionKind(desired.getApiVersion(), desired.getKind()), name);
@@ -50,21 +56,32 @@ public class GenericDependentResource
     this.resourceName = resourceName;
     this.clusterScoped = clusterScoped;
     this.genericTemplateHandler = genericTemplateHandler;
+    this.inputFingerprints = inputFingerprints;
+    this.templateHash = desired.hashCode();
   }
 
   public GenericDependentResource(GenericTemplateHandler genericTemplateHandler,
+      InputFingerprints inputFingerprints,
       String desiredTemplate, String name, String resourceName, String namespace,
       boolean clusterScoped,
       Matcher matcher) {
     super(new GroupVersionKind(Utils.getApiVersionFromTemplate(desiredTemplate),
         Utils.getKindFromTemplate(desiredTemplate)), name);
     this.genericTemplateHandler = genericTemplateHandler;
+    this.inputFingerprints = inputFingerprints;
     this.resourceName = resourceName;
     this.desiredTemplate = desiredTemplate;
     this.namespace = namespace;
     this.matcher = matcher;
     this.desired = null;
     this.clusterScoped = clusterScoped;
+    this.templateHash = desiredTemplate.hashCode();
+  }
+
+  // the framework caches the desired state only in its own context
+  @Override
+  protected GenericKubernetesResource getOrComputeDesired(Context<Glue> context) {
+    return super.getOrComputeDesired(WorkflowContext.unwrap(context));
   }
 
   @Override
@@ -73,7 +90,10 @@ public class GenericDependentResource
     boolean objectTemplate = desired != null;
     var template = objectTemplate ? Serialization.asYaml(desired) : desiredTemplate;
 
-    var res = genericTemplateHandler.processTemplate(template, primary, objectTemplate, context);
+    var renderContext = RenderContext.of(primary, context);
+    var data = renderContext.trackedData();
+    var res = genericTemplateHandler.processTemplate(data, template, objectTemplate);
+    renderContext.rendered(name, inputFingerprints.fingerprint(templateHash, primary, data));
     var resultDesired = Serialization.unmarshal(res, GenericKubernetesResource.class);
 
     resultDesired.getMetadata().getAnnotations()
@@ -85,9 +105,58 @@ public class GenericDependentResource
     return resultDesired;
   }
 
+  @Override
+  protected void onCreated(Glue primary, GenericKubernetesResource created,
+      Context<Glue> context) {
+    super.onCreated(primary, created, context);
+    var renderContext = RenderContext.of(primary, context);
+    renderContext.resourceChanged(name, created);
+    SecondaryResourceIndex.of(context).resourceChanged(created);
+    renderContext.renderedFingerprint(name)
+        .ifPresent(f -> inputFingerprints.applied(primary, name, f, created));
+  }
+
+  @Override
+  protected void onUpdated(Glue primary, GenericKubernetesResource updated,
+      GenericKubernetesResource actual, Context<Glue> context) {
+    super.onUpdated(primary, updated, actual, context);
+    var renderContext = RenderContext.of(primary, context);
+    renderContext.resourceChanged(name, updated);
+    SecondaryResourceIndex.of(context).resourceChanged(updated);
+    renderContext.renderedFingerprint(name)
+        .ifPresent(f -> inputFingerprints.applied(primary, name, f, updated));
+  }
+
+  @Override
+  protected void handleDelete(Glue primary, GenericKubernetesResource secondary,
+      Context<Glue> context) {
+    super.handleDelete(primary, secondary, context);
+    RenderContext.of(primary, context).resourceDeleted(name, secondary);
+    SecondaryResourceIndex.of(context).resourceDeleted(secondary);
+    inputFingerprints.remove(primary, name);
+  }
+
+  /**
+   * If the inputs of the template and the actual resource did not change since the desired state
+   * was last applied or matched, the desired state would be the same, so it is not rendered again.
+   */
   @Override
   public Result<GenericKubernetesResource> match(GenericKubernetesResource actualResource,
       Glue primary, Context<Glue> context) {
+    var renderContext = RenderContext.of(primary, context);
+    if (inputFingerprints.unchanged(primary, name, templateHash, actualResource, renderContext)) {
+      return Result.nonComputed(true);
+    }
+    var res = matchDesired(actualResource, primary, context);
+    if (res.matched()) {
+      renderContext.renderedFingerprint(name)
+          .ifPresent(f -> inputFingerprints.applied(primary, name, f, actualResource));
+    }
+    return res;
+  }
+
+  private Result<GenericKubernetesResource> matchDesired(GenericKubernetesResource actualResource,
+      Glue primary, Context<Glue> context) {
     // see details here: https://github.com/operator-framework/java-operator-sdk/issues/2249
     if (actualResource.getKind().equals("Deployment")
         && actualResource.getApiVersion().equals("apps/v1")) {
@@ -106,20 +175,18 @@ public class GenericDependentResource
       Glue primary,
       Context<Glue> context) {
 
-    var allSecondaryResources = context.getSecondaryResources(GenericKubernetesResource.class);
+    var sameNameResources = SecondaryResourceIndex.of(context)
+        .byTypeAndName(getGroupVersionKind(), resourceName);
     if (log.isDebugEnabled()) {
-      log.debug("All secondary resources for DR: {}, resources: {}", name,
-          allSecondaryResources.stream()
+      log.debug("Secondary resources with the name of DR: {}, resources: {}", name,
+          sameNameResources.stream()
               .map(r -> "{ Name: %s; Namespace: %s }".formatted(r.getMetadata().getName(),
                   r.getMetadata().getNamespace()))
               .toList());
     }
-    var res = allSecondaryResources
-        .stream()
-        .filter(r -> r.getKind().equals(getGroupVersionKind().getKind()) &&
-            r.getApiVersion().equals(getGroupVersionKind().apiVersion()) &&
-            r.getMetadata().getName().equals(resourceName) &&
-            (namespace == null || Objects.equals(namespace, r.getMetadata().getNamespace())))
+    var res = sameNameResources.stream()
+        .filter(r -> namespace == null
+            || Objects.equals(namespace, r.getMetadata().getNamespace()))
         .toList();
 
     if (res.size() > 1) {
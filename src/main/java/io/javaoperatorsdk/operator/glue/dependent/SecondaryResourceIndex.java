@@ -0,0 +1,172 @@
+package io.javaoperatorsdk.operator.glue.dependent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+
+import static io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY;
+
+/**
+ * Index of the secondary resources of a Glue for a single reconciliation, by the name of the child
+ * resource they belong to and by their type and name. The index is built on first access, updated
+ * when a resource is changed by a dependent resource, and built again when a new informer is
+ * registered. Like {@link io.javaoperatorsdk.operator.glue.templating.RenderContext} the instance
+ * is stored in the managed workflow context; dependent resources might be reconciled in parallel,
+ * so the class is thread safe.
+ */
+public class SecondaryResourceIndex {
+
+  private static final String INDEX_KEY = SecondaryResourceIndex.class.getName();
+
+  private final Context<Glue> context;
+  private final Map<String, Map<ResourceKey, GenericKubernetesResource>> byDependentName =
+      new HashMap<>();
+  // resources with the same type and name, but in different namespaces
+  private final Map<NameKey, List<GenericKubernetesResource>> byName = new HashMap<>();
+  private boolean built = false;
+
+  private SecondaryResourceIndex(Context<Glue> context) {
+    this.context = context;
+  }
+
+  public static SecondaryResourceIndex of(Context<Glue> context) {
+    var managedContext = context.managedWorkflowAndDependentResourceContext();
+    if (managedContext == null) {
+      return new SecondaryResourceIndex(context);
+    }
+    synchronized (managedContext) {
+      var index = managedContext.get(INDEX_KEY, SecondaryResourceIndex.class);
+      if (index.isPresent()) {
+        return index.get();
+      }
+      var newIndex = new SecondaryResourceIndex(context);
+      managedContext.put(INDEX_KEY, newIndex);
+      return newIndex;
+    }
+  }
+
+  /**
+   * Makes the index to be built again on next access. Should be called when a new informer is
+   * registered, since resources of that informer were not available at the time of building.
+   */
+  public static void invalidate(Context<Glue> context) {
+    var managedContext = context.managedWorkflowAndDependentResourceContext();
+    if (managedContext == null) {
+      return;
+    }
+    managedContext.get(INDEX_KEY, SecondaryResourceIndex.class)
+        .ifPresent(SecondaryResourceIndex::invalidate);
+  }
+
+  private synchronized void invalidate() {
+    built = false;
+  }
+
+  /** Resources of the child resource, based on the dependent name annotation. */
+  public synchronized List<GenericKubernetesResource> byDependentName(String dependentName) {
+    build();
+    return List.copyOf(byDependentName.getOrDefault(dependentName, Map.of()).values());
+  }
+
+  /** Names of the child resources the secondary resources belong to. */
+  public synchronized Set<String> dependentNames() {
+    build();
+    return Set.copyOf(byDependentName.keySet());
+  }
+
+  /** Resources with the type and name, from all namespaces. */
+  public synchronized List<GenericKubernetesResource> byTypeAndName(GroupVersionKind gvk,
+      String name) {
+    build();
+    return List.copyOf(
+        byName.getOrDefault(new NameKey(gvk.apiVersion(), gvk.getKind(), name), List.of()));
+  }
+
+  /**
+   * Called when a resource is created or updated by a dependent resource, so the resource is found
+   * later in the same reconciliation.
+   */
+  public synchronized void resourceChanged(GenericKubernetesResource resource) {
+    if (!built) {
+      return;
+    }
+    remove(resource);
+    add(resource);
+  }
+
+  public synchronized void resourceDeleted(GenericKubernetesResource resource) {
+    if (built) {
+      remove(resource);
+    }
+  }
+
+  private void build() {
+    if (built) {
+      return;
+    }
+    byDependentName.clear();
+    byName.clear();
+    context.getSecondaryResources(GenericKubernetesResource.class).forEach(this::add);
+    built = true;
+  }
+
+  private void add(GenericKubernetesResource resource) {
+    var dependentName = resource.getMetadata().getAnnotations().get(DEPENDENT_NAME_ANNOTATION_KEY);
+    if (dependentName != null) {
+      byDependentName.computeIfAbsent(dependentName, k -> new LinkedHashMap<>())
+          .put(ResourceKey.of(resource), resource);
+    }
+    byName.computeIfAbsent(NameKey.of(resource), k -> new ArrayList<>(1)).add(resource);
+  }
+
+  private void remove(GenericKubernetesResource resource) {
+    var nameKey = NameKey.of(resource);
+    var sameNameResources = byName.get(nameKey);
+    if (sameNameResources == null) {
+      return;
+    }
+    var namespace = resource.getMetadata().getNamespace();
+    sameNameResources.removeIf(r -> {
+      if (!Objects.equals(r.getMetadata().getNamespace(), namespace)) {
+        return false;
+      }
+      var dependentName = r.getMetadata().getAnnotations().get(DEPENDENT_NAME_ANNOTATION_KEY);
+      var resourcesOfDependent = dependentName == null ? null : byDependentName.get(dependentName);
+      if (resourcesOfDependent != null) {
+        resourcesOfDependent.remove(ResourceKey.of(r));
+        if (resourcesOfDependent.isEmpty()) {
+          byDependentName.remove(dependentName);
+        }
+      }
+      return true;
+    });
+    if (sameNameResources.isEmpty()) {
+      byName.remove(nameKey);
+    }
+  }
+
+  private record NameKey(String apiVersion, String kind, String name) {
+
+    static NameKey of(GenericKubernetesResource resource) {
+      return new NameKey(resource.getApiVersion(), resource.getKind(),
+          resource.getMetadata().getName());
+    }
+  }
+
+  private record ResourceKey(String apiVersion, String kind, String namespace, String name) {
+
+    static ResourceKey of(GenericKubernetesResource resource) {
+      return new ResourceKey(resource.getApiVersion(), resource.getKind(),
+          resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.javaoperatorsdk.operator.glue.reconciler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures the time from starting the first of the informers pre-warmed for a controller until all
+ * of them are synced. Informers are started in parallel with the controller, and starting an
+ * informer returns when its cache is synced.
+ */
+public class InformerSyncTimer {
+
+  public static final String PRE_WARM_TIMER_NAME = "glue.operator.informer.prewarm.sync";
+
+  private final String controllerName;
+  private final AtomicInteger notSynced;
+  private final AtomicLong startNanos = new AtomicLong();
+
+  public InformerSyncTimer(String controllerName, int informerCount) {
+    this.controllerName = controllerName;
+    this.notSynced = new AtomicInteger(informerCount);
+  }
+
+  public <P extends HasMetadata> InformerEventSource<GenericKubernetesResource, P> createInformer(
+      InformerEventSourceConfiguration<GenericKubernetesResource> configuration,
+      EventSourceContext<P> context) {
+    return new InformerEventSource<>(configuration, context) {
+      @Override
+      public synchronized void start() {
+        startNanos.compareAndSet(0, System.nanoTime());
+        super.start();
+        synced();
+      }
+    };
+  }
+
+  void synced() {
+    if (notSynced.decrementAndGet() == 0) {
+      Timer.builder(PRE_WARM_TIMER_NAME)
+          .description("Time until the informers pre-warmed at startup are synced")
+          .tag("controller", controllerName)
+          .register(Metrics.globalRegistry)
+          .record(System.nanoTime() - startNanos.get(), TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -3,17 +3,25 @@ package io.javaoperatorsdk.operator.glue.reconciler;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.client.CustomResource;
+import io.javaoperatorsdk.operator.AggregatedOperatorException;
 import io.javaoperatorsdk.operator.api.reconciler.ErrorStatusUpdateControl;
 import io.javaoperatorsdk.operator.api.reconciler.UpdateControl;
 import io.javaoperatorsdk.operator.glue.GlueException;
+import io.javaoperatorsdk.operator.glue.conditions.ConditionLimitExceededException;
 import io.javaoperatorsdk.operator.glue.customresource.AbstractStatus;
+import io.javaoperatorsdk.operator.glue.customresource.glue.BulkProgress;
 import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
@@ -43,6 +51,12 @@ public class ValidationAndStatusHandler {
       resource.getStatus()
           .setErrorMessage(NON_UNIQUE_NAMES_FOUND_PREFIX + String.join(",", ex.getDuplicates()));
       return ErrorStatusUpdateControl.patchStatus(resource).withNoRetry();
+    }
+    var limitExceeded = findConditionLimitExceeded(e);
+    if (limitExceeded.isPresent()) {
+      // reported on its own, so it is not hidden by other errors of the workflow
+      resource.getStatus().setErrorMessage(limitExceeded.get().getMessage());
+      return ErrorStatusUpdateControl.patchStatus(resource);
     } else {
       var message = e.getMessage();
       if (message == null) {
@@ -56,23 +70,72 @@ public class ValidationAndStatusHandler {
     }
   }
 
+  private static Optional<ConditionLimitExceededException> findConditionLimitExceeded(
+      Throwable e) {
+    if (e == null) {
+      return Optional.empty();
+    }
+    if (e instanceof ConditionLimitExceededException limitExceeded) {
+      return Optional.of(limitExceeded);
+    }
+    if (e instanceof AggregatedOperatorException aggregated) {
+      var res = aggregated.getAggregatedExceptions().values().stream()
+          .map(ValidationAndStatusHandler::findConditionLimitExceeded)
+          .flatMap(Optional::stream)
+          .findFirst();
+      if (res.isPresent()) {
+        return res;
+      }
+    }
+    return e.getCause() == e ? Optional.empty() : findConditionLimitExceeded(e.getCause());
+  }
+
   public UpdateControl<GlueOperator> handleStatusUpdate(GlueOperator primary) {
     if (primary.getStatus() == null) {
       primary.setStatus(new GlueOperatorStatus());
     }
-    return handleGenericStatusUpdate(primary);
+    return handleGenericStatusUpdate(primary, false);
   }
 
-  public UpdateControl<Glue> handleStatusUpdate(Glue primary) {
+  public UpdateControl<Glue> handleStatusUpdate(Glue primary,
+      Map<String, BulkProgress> bulkProgress) {
     if (primary.getStatus() == null) {
       primary.setStatus(new GlueStatus());
     }
-    return handleGenericStatusUpdate(primary);
+    return handleGenericStatusUpdate(primary, updateBulkProgress(primary, bulkProgress));
+  }
+
+  /**
+   * Sets the progress of the bulk child resources reconciled. Bulk child resources not reconciled
+   * (for example since a condition is not met) keep the progress of their last reconciliation.
+   *
+   * @return if the status changed
+   */
+  public boolean updateBulkProgress(Glue primary, Map<String, BulkProgress> bulkProgress) {
+    var bulkNames = primary.getSpec().getChildResources().stream()
+        .filter(r -> Boolean.TRUE.equals(r.getBulk()))
+        .map(DependentResourceSpec::getName)
+        .collect(Collectors.toSet());
+    var actual = primary.getStatus().getBulkProgress();
+    var updated = new TreeMap<String, BulkProgress>();
+    if (actual != null) {
+      actual.forEach((name, progress) -> {
+        if (bulkNames.contains(name)) {
+          updated.put(name, progress);
+        }
+      });
+    }
+    updated.putAll(bulkProgress);
+    var res = updated.isEmpty() ? null : updated;
+    if (Objects.equals(actual, res)) {
+      return false;
+    }
+    primary.getStatus().setBulkProgress(res);
+    return true;
   }
 
   private <T extends CustomResource<?, ? extends AbstractStatus>> UpdateControl<T> handleGenericStatusUpdate(
-      T primary) {
-    boolean patch = false;
+      T primary, boolean patch) {
 
     if (primary.getStatus().getErrorMessage() != null) {
       patch = true;
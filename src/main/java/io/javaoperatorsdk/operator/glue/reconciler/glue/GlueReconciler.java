@@ -1,6 +1,7 @@
 package io.javaoperatorsdk.operator.glue.reconciler.glue;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,25 +13,37 @@ import io.fabric8.kubernetes.client.dsl.base.PatchContext;
 import io.fabric8.kubernetes.client.dsl.base.PatchType;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.reconciler.*;
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
 import io.javaoperatorsdk.operator.glue.Utils;
+import io.javaoperatorsdk.operator.glue.conditions.CacheableCondition;
+import io.javaoperatorsdk.operator.glue.conditions.ConditionResultCache;
+import io.javaoperatorsdk.operator.glue.conditions.ExpressionCondition;
 import io.javaoperatorsdk.operator.glue.conditions.JavaScripCondition;
+import io.javaoperatorsdk.operator.glue.conditions.JavaScriptEvaluator;
+import io.javaoperatorsdk.operator.glue.conditions.MemoizedCondition;
 import io.javaoperatorsdk.operator.glue.conditions.ReadyCondition;
 import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.GlueStatus;
 import io.javaoperatorsdk.operator.glue.customresource.glue.condition.ConditionSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.condition.ExpressionConditionSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.condition.JavaScriptConditionSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.condition.ReadyConditionSpec;
 import io.javaoperatorsdk.operator.glue.dependent.GCGenericBulkDependentResource;
 import io.javaoperatorsdk.operator.glue.dependent.GCGenericDependentResource;
+import io.javaoperatorsdk.operator.glue.dependent.GenericBulkDependentResource;
 import io.javaoperatorsdk.operator.glue.dependent.GenericDependentResource;
+import io.javaoperatorsdk.operator.glue.dependent.SecondaryResourceIndex;
 import io.javaoperatorsdk.operator.glue.reconciler.ValidationAndStatusHandler;
 import io.javaoperatorsdk.operator.glue.reconciler.operator.GlueOperatorReconciler;
 import io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler;
-import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+import io.javaoperatorsdk.operator.glue.templating.InputFingerprints;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.KubernetesResourceDeletedCondition;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.WorkflowBuilder;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 
 import static io.javaoperatorsdk.operator.glue.Utils.getResourceForSSAFrom;
 import static io.javaoperatorsdk.operator.glue.reconciler.operator.GlueOperatorReconciler.FOR_GLUE_OPERATOR_LABEL_VALUE;
@@ -54,13 +67,34 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
       new KubernetesResourceDeletedCondition();
 
   private final GenericTemplateHandler genericTemplateHandler;
+  private final InputFingerprints inputFingerprints;
+  private final JavaScriptEvaluator javaScriptEvaluator;
+  private final ConditionResultCache conditionResultCache;
+  private final ControllerConfig controllerConfig;
+  private final WorkflowCache workflowCache;
+  private final ProcessedGenerations processedGenerations;
+  private final WorkflowExecutor workflowExecutor;
 
   public GlueReconciler(ValidationAndStatusHandler validationAndStatusHandler,
       InformerRegister informerRegister,
-      GenericTemplateHandler genericTemplateHandler) {
+      GenericTemplateHandler genericTemplateHandler,
+      InputFingerprints inputFingerprints,
+      JavaScriptEvaluator javaScriptEvaluator,
+      ConditionResultCache conditionResultCache,
+      ControllerConfig controllerConfig,
+      WorkflowCache workflowCache,
+      ProcessedGenerations processedGenerations,
+      WorkflowExecutor workflowExecutor) {
+    this.controllerConfig = controllerConfig;
+    this.workflowCache = workflowCache;
+    this.processedGenerations = processedGenerations;
+    this.workflowExecutor = workflowExecutor;
     this.validationAndStatusHandler = validationAndStatusHandler;
     this.informerRegister = informerRegister;
     this.genericTemplateHandler = genericTemplateHandler;
+    this.inputFingerprints = inputFingerprints;
+    this.javaScriptEvaluator = javaScriptEvaluator;
+    this.conditionResultCache = conditionResultCache;
   }
 
   /**
@@ -87,12 +121,20 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
     }
     addFinalizersToParentResource(primary, context);
     var actualWorkflow = buildWorkflowAndRegisterInformers(primary, context);
-    var result = actualWorkflow.reconcile(primary, context);
-    cleanupRemovedResourcesFromWorkflow(context, primary);
-    informerRegister.deRegisterInformerOnResourceFlowChange(context, primary);
+    var result = actualWorkflow.reconcile(primary, workflowExecutor.contextFor(context));
+    if (processedGenerations.cleanupNeeded(primary)) {
+      // the generation is recorded only if all the removed resources are deleted, so the cleanup
+      // is retried otherwise; failed de-registrations are thrown
+      var allDeleted = cleanupRemovedResourcesFromWorkflow(context, primary);
+      informerRegister.deRegisterInformerOnResourceFlowChange(context, primary);
+      if (allDeleted) {
+        processedGenerations.cleanedUp(primary);
+      }
+    }
     result.throwAggregateExceptionIfErrorsPresent();
     patchRelatedResourcesStatus(context, primary);
-    return validationAndStatusHandler.handleStatusUpdate(primary);
+    return validationAndStatusHandler.handleStatusUpdate(primary,
+        GenericBulkDependentResource.bulkProgress(context));
   }
 
   @Override
@@ -103,7 +145,7 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
 
     registerRelatedResourceInformers(context, primary);
     var actualWorkflow = buildWorkflowAndRegisterInformers(primary, context);
-    var result = actualWorkflow.cleanup(primary, context);
+    var result = actualWorkflow.cleanup(primary, workflowExecutor.contextFor(context));
     result.throwAggregateExceptionIfErrorsPresent();
 
     var deletableResourceCount = actualWorkflow.getDependentResourcesByName()
@@ -122,17 +164,44 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
             primary, context);
       });
       informerRegister.deRegisterInformerForRelatedResources(primary, context);
+      inputFingerprints.remove(primary);
+      conditionResultCache.remove(primary);
+      workflowCache.remove(primary);
+      processedGenerations.remove(primary);
 
       return DeleteControl.defaultDelete();
     }
   }
 
+  /**
+   * Informers for the resource types used by the existing Glue-s are started in parallel with the
+   * controller, so the Glue-s are not waiting for those one by one when reconciled first.
+   */
+  @Override
+  public List<EventSource<?, Glue>> prepareEventSources(
+      EventSourceContext<Glue> eventSourceContext) {
+    if (!controllerConfig.preWarmInformers()) {
+      return List.of();
+    }
+    try {
+      var glues = Utils.listPrimaryResources(eventSourceContext);
+      return new ArrayList<>(informerRegister.preWarmInformers(eventSourceContext, glues));
+    } catch (KubernetesClientException e) {
+      log.warn("Error listing Glue-s for pre-warming informers, informers are registered when "
+          + "Glue-s are reconciled", e);
+      return List.of();
+    }
+  }
+
   @Override
   public ErrorStatusUpdateControl<Glue> updateErrorStatus(Glue resource, Context<Glue> context,
       Exception e) {
     if (resource.getStatus() == null) {
       resource.setStatus(new GlueStatus());
     }
+    // errors of bulk resources are reported, together with how many resources were applied
+    validationAndStatusHandler.updateBulkProgress(resource,
+        GenericBulkDependentResource.bulkProgress(context));
     return validationAndStatusHandler.updateStatusErrorMessage(e, resource);
   }
 
@@ -153,58 +222,114 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
   }
 
   // todo test
-  private void cleanupRemovedResourcesFromWorkflow(Context<Glue> context,
+  /** Returns false if a resource of a removed child resource could not be deleted. */
+  private boolean cleanupRemovedResourcesFromWorkflow(Context<Glue> context,
       Glue primary) {
-    context.getSecondaryResources(GenericKubernetesResource.class).forEach(r -> {
-      String dependentName = r.getMetadata().getAnnotations().get(DEPENDENT_NAME_ANNOTATION_KEY);
-      // dependent name is null for related resources
-      if (dependentName != null && primary.getSpec().getChildResources().stream()
-          .filter(pr -> pr.getName().equals(dependentName)).findAny().isEmpty()) {
+    var index = SecondaryResourceIndex.of(context);
+    var dependentNames = primary.getSpec().getChildResources().stream()
+        .map(DependentResourceSpec::getName)
+        .collect(Collectors.toSet());
+    inputFingerprints.retainOnly(primary, dependentNames);
+    var allDeleted = true;
+    // related resources are not indexed by dependent name, since not annotated
+    for (var dependentName : index.dependentNames()) {
+      if (dependentNames.contains(dependentName)) {
+        continue;
+      }
+      for (var r : index.byDependentName(dependentName)) {
         try {
           log.debug("Deleting resource with name: {}", dependentName + "for resource flow: {} "
               + primary.getMetadata().getName());
           context.getClient().resource(r).delete();
         } catch (KubernetesClientException e) {
           // can happen that already deleted, just in cache.
-          log.warn("Error during deleting resource on workflow change", e);
+          if (e.getCode() != 404) {
+            log.warn("Error during deleting resource on workflow change", e);
+            allDeleted = false;
+          }
         }
       }
-    });
+    }
+    return allDeleted;
   }
 
   private io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow<Glue> buildWorkflowAndRegisterInformers(
       Glue primary, Context<Glue> context) {
-    var builder = new WorkflowBuilder<Glue>();
+    var cached = workflowCache.get(primary);
+
+    Map<String, WorkflowCache.Target> targets = new HashMap<>();
+    Map<String, InformerEventSource<GenericKubernetesResource, Glue>> informers = new HashMap<>();
+    primary.getSpec().getChildResources().forEach(spec -> {
+      var previousTarget = cached.map(c -> c.targets().get(spec.getName())).orElse(null);
+      targets.put(spec.getName(), resolveTarget(primary, context, spec, previousTarget));
+      informers.put(spec.getName(),
+          informerRegister.registerInformer(context, Utils.getGVK(spec), primary));
+    });
+    if (cached.isPresent() && cached.get().matches(targets, informers)) {
+      return workflowCache.hit(cached.get());
+    }
 
+    var builder = new WorkflowBuilder<Glue>();
     Map<String, GenericDependentResource> genericDependentResourceMap = new HashMap<>();
     primary.getSpec().getChildResources().forEach(spec -> createAndAddDependentToWorkflow(primary,
-        context, spec, genericDependentResourceMap, builder));
+        spec, targets.get(spec.getName()), informers.get(spec.getName()),
+        genericDependentResourceMap, builder));
+    var workflow = builder.build();
+    workflowCache.put(primary, new WorkflowCache.CachedWorkflow(
+        primary.getMetadata().getGeneration(), workflow, targets, informers));
+    return workflow;
+  }
 
-    return builder.build();
+  // todo test processing ns not as template
+  // todo test processing ns as template
+  // name can reference related resources todo doc
+  private WorkflowCache.Target resolveTarget(Glue primary, Context<Glue> context,
+      DependentResourceSpec spec, WorkflowCache.Target previous) {
+    var namespace = Utils.getNamespace(spec).map(ns -> resolveTemplate(ns, primary, context,
+        previous == null ? null : previous.namespace()));
+    WorkflowCache.TemplatedValue name = null;
+    if (!Boolean.TRUE.equals(spec.getBulk())) {
+      name = resolveTemplate(Utils.getName(spec), primary, context,
+          previous == null ? null : previous.name());
+    }
+    return new WorkflowCache.Target(name, namespace.orElse(null));
   }
 
-  private void createAndAddDependentToWorkflow(Glue primary, Context<Glue> context,
-      DependentResourceSpec spec,
+  /**
+   * Renders the template, unless it is not templated, or the inputs it was rendered with last time
+   * did not change.
+   */
+  private WorkflowCache.TemplatedValue resolveTemplate(String template, Glue primary,
+      Context<Glue> context, WorkflowCache.TemplatedValue previous) {
+    if (!template.contains("{")) {
+      return new WorkflowCache.TemplatedValue(template, null);
+    }
+    var renderContext = RenderContext.of(primary, context);
+    int templateHash = template.hashCode();
+    if (previous != null && previous.inputs() != null
+        && previous.inputs().sameInputs(templateHash, primary, renderContext.data())) {
+      return previous;
+    }
+    var data = renderContext.trackedData();
+    var value = genericTemplateHandler.processTemplate(data, template, false);
+    return new WorkflowCache.TemplatedValue(value,
+        inputFingerprints.fingerprint(templateHash, primary, data));
+  }
+
+  private void createAndAddDependentToWorkflow(Glue primary, DependentResourceSpec spec,
+      WorkflowCache.Target target, InformerEventSource<GenericKubernetesResource, Glue> informer,
       Map<String, GenericDependentResource> genericDependentResourceMap,
       WorkflowBuilder<Glue> builder) {
 
-    // todo test processing ns not as template
-    // todo test processing ns as template
-    // name can reference related resources todo doc
-    var targetNamespace = Utils.getNamespace(spec).map(ns -> genericTemplateHandler
-        .processTemplate(ns, primary, false, context));
+    var targetNamespace = Optional.ofNullable(target.namespace())
+        .map(WorkflowCache.TemplatedValue::value);
     var resourceInSameNamespaceAsPrimary =
         targetNamespace.map(n -> n.trim().equals(primary.getMetadata().getNamespace().trim()))
             .orElse(true);
-    String name = null;
-    if (!Boolean.TRUE.equals(spec.getBulk())) {
-      name = genericTemplateHandler.processTemplate(Utils.getName(spec), primary, false, context);
-    }
+    String name = target.name() == null ? null : target.name().value();
     var dr = createDependentResource(name, spec, resourceInSameNamespaceAsPrimary,
         targetNamespace.orElse(null));
-    GroupVersionKind gvk = dr.getGroupVersionKind();
-    var es = informerRegister.registerInformer(context, gvk, primary);
-    dr.setEventSource(es);
+    dr.setEventSource(informer);
 
     var nodeBuilder = builder.addDependentResourceAndConfigure(dr);
     spec.getDependsOn().forEach(s -> nodeBuilder.dependsOn(genericDependentResourceMap.get(s)));
@@ -228,23 +353,24 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
         resourceInSameNamespaceAsPrimary && !spec.isClusterScoped()) {
       return spec.getResourceTemplate() != null
           ? spec.getBulk()
-              ? new GCGenericBulkDependentResource(genericTemplateHandler,
+              ? new GCGenericBulkDependentResource(genericTemplateHandler, inputFingerprints,
                   spec.getResourceTemplate(),
                   spec.getName(),
+                  spec.isClusterScoped(), spec.getMatcher(),
+                  controllerConfig.bulkApplyConcurrency(), workflowExecutor)
+              : new GCGenericDependentResource(genericTemplateHandler, inputFingerprints,
+                  spec.getResourceTemplate(), spec.getName(), resourceName, namespace,
                   spec.isClusterScoped(), spec.getMatcher())
-              : new GCGenericDependentResource(genericTemplateHandler, spec.getResourceTemplate(),
-                  spec.getName(), resourceName, namespace,
-                  spec.isClusterScoped(), spec.getMatcher())
-          : new GCGenericDependentResource(genericTemplateHandler, spec.getResource(),
-              spec.getName(), resourceName, namespace,
+          : new GCGenericDependentResource(genericTemplateHandler, inputFingerprints,
+              spec.getResource(), spec.getName(), resourceName, namespace,
               spec.isClusterScoped(), spec.getMatcher());
     } else {
       return spec.getResourceTemplate() != null
-          ? new GenericDependentResource(genericTemplateHandler,
+          ? new GenericDependentResource(genericTemplateHandler, inputFingerprints,
               spec.getResourceTemplate(), spec.getName(), resourceName, namespace,
               spec.isClusterScoped(),
               spec.getMatcher())
-          : new GenericDependentResource(genericTemplateHandler,
+          : new GenericDependentResource(genericTemplateHandler, inputFingerprints,
               spec.getResource(), spec.getName(), resourceName, namespace, spec.isClusterScoped(),
               spec.getMatcher());
     }
@@ -281,16 +407,22 @@ public class GlueReconciler implements Reconciler<Glue>, Cleaner<Glue> {
 
   }
 
-  @SuppressWarnings({"rawtypes"})
+  @SuppressWarnings({"rawtypes", "unchecked"})
   private Condition toCondition(ConditionSpec condition) {
+    CacheableCondition res;
     if (condition instanceof ReadyConditionSpec readyConditionSpec) {
-      return new ReadyCondition(readyConditionSpec.isNegated());
+      res = new ReadyCondition(readyConditionSpec.isNegated());
     } else if (condition instanceof JavaScriptConditionSpec jsCondition) {
-      return new JavaScripCondition(jsCondition.getScript());
+      res = new JavaScripCondition(jsCondition.getScript(), javaScriptEvaluator);
+    } else if (condition instanceof ExpressionConditionSpec expressionCondition) {
+      res = new ExpressionCondition(expressionCondition.getExpression());
+    } else {
+      throw new IllegalStateException("Unknown condition: " + condition);
     }
-    throw new IllegalStateException("Unknown condition: " + condition);
+    return new MemoizedCondition(res, conditionResultCache);
   }
 
+
   private void addFinalizersToParentResource(Glue primary, Context<Glue> context) {
     if (!isGlueOfAGlueOperator(primary)) {
       return;
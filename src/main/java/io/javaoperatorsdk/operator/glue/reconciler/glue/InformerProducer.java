@@ -4,7 +4,9 @@ package io.javaoperatorsdk.operator.glue.reconciler.glue;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.reconciler.InformerSyncTimer;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 
 import jakarta.inject.Singleton;
@@ -21,4 +23,10 @@ public class InformerProducer {
         context.eventSourceRetriever().eventSourceContextForDynamicRegistration());
   }
 
+  public InformerEventSource<GenericKubernetesResource, Glue> createPreWarmedInformer(
+      InformerEventSourceConfiguration<GenericKubernetesResource> configuration,
+      EventSourceContext<Glue> eventSourceContext, InformerSyncTimer syncTimer) {
+    return syncTimer.createInformer(configuration, eventSourceContext);
+  }
+
 }
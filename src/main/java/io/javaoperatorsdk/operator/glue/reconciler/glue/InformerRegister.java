@@ -2,22 +2,34 @@ package io.javaoperatorsdk.operator.glue.reconciler.glue;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.glue.ControllerConfig;
 import io.javaoperatorsdk.operator.glue.Utils;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.RelatedResourceSpec;
+import io.javaoperatorsdk.operator.glue.reconciler.InformerSyncTimer;
+import io.javaoperatorsdk.operator.glue.templating.RenderContext;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 
 // todo unit test
@@ -26,11 +38,33 @@ public class InformerRegister {
 
   private static final Logger log = LoggerFactory.getLogger(InformerRegister.class);
 
-  private final Map<GroupVersionKind, Set<String>> gvkOfInformerToGlue = new HashMap<>();
-  private final Map<String, Set<GroupVersionKind>> glueToInformerGVK = new HashMap<>();
+  public static final String METRICS_PREFIX = "glue.operator.informer.";
+  private static final int LOCK_STRIPES = 64;
+
+  // glues using the informer of a gvk, with what they need from the informer
+  private final Map<GroupVersionKind, Map<String, InformerUsage>> gvkOfInformerToGlue =
+      new ConcurrentHashMap<>();
+  private final Map<String, Set<GroupVersionKind>> glueToInformerGVK = new ConcurrentHashMap<>();
+  private final Map<GroupVersionKind, RegisteredInformer> registeredInformers =
+      new ConcurrentHashMap<>();
   private final Map<GroupVersionKind, RelatedAndOwnedResourceSecondaryToPrimaryMapper> relatedResourceMappers =
       new ConcurrentHashMap<>();
+  // registering and de-registering informers for the same gvk is serialized, for different gvks
+  // it runs in parallel (unless the gvks map to the same stripe)
+  private final Object[] gvkLocks = new Object[LOCK_STRIPES];
+  // informers not used anymore, waiting for the de-registration delay to pass
+  private final Map<GroupVersionKind, PendingDeRegistration> pendingDeRegistrations =
+      new ConcurrentHashMap<>();
+  private final long deRegistrationDelayMillis;
+  private final ScheduledExecutorService deRegistrationExecutor;
 
+  private final AtomicLong registrations = new AtomicLong();
+  private final AtomicLong reuses = new AtomicLong();
+  private final AtomicLong discards = new AtomicLong();
+  private final AtomicLong deRegistrations = new AtomicLong();
+  private final AtomicLong relistsAvoided = new AtomicLong();
+  // sequence of the names of the informers replacing registered ones
+  private final AtomicLong replacements = new AtomicLong();
 
   private final InformerProducer informerProducer;
   private final ControllerConfig controllerConfig;
@@ -39,26 +73,50 @@ public class InformerRegister {
   public InformerRegister(InformerProducer informerProducer, ControllerConfig controllerConfig) {
     this.informerProducer = informerProducer;
     this.controllerConfig = controllerConfig;
+    for (int i = 0; i < gvkLocks.length; i++) {
+      gvkLocks[i] = new Object();
+    }
+    this.deRegistrationDelayMillis = controllerConfig.informerDeRegistrationDelayMillis();
+    this.deRegistrationExecutor = deRegistrationDelayMillis > 0
+        ? Executors.newSingleThreadScheduledExecutor(r -> {
+          var thread = new Thread(r, "informer-deregistration");
+          thread.setDaemon(true);
+          return thread;
+        })
+        : null;
+    FunctionCounter.builder(METRICS_PREFIX + "registrations", registrations, AtomicLong::get)
+        .description("Number of informers registered")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "reuses", reuses, AtomicLong::get)
+        .description("Number of informer registrations served by an already registered informer")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "discards", discards, AtomicLong::get)
+        .description("Number of informers created but discarded since one was registered already")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "deregistrations", deRegistrations, AtomicLong::get)
+        .description("Number of informers de-registered")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "relists.avoided", relistsAvoided, AtomicLong::get)
+        .description("Number of pending informer de-registrations cancelled since the informer "
+            + "was used again")
+        .register(Metrics.globalRegistry);
   }
 
 
   // todo test related resources deleting
-  public synchronized void deRegisterInformerOnResourceFlowChange(Context<Glue> context,
+  public void deRegisterInformerOnResourceFlowChange(Context<Glue> context,
       Glue primary) {
-    var registeredGVKSet =
-        new HashSet<>(glueToInformerGVK.get(primary.getMetadata().getName()));
+    var registeredGVKSet = new HashSet<>(
+        glueToInformerGVK.getOrDefault(primary.getMetadata().getName(), Set.of()));
 
-    var currentGVKSet = primary.getSpec().getChildResources().stream()
-        .map(Utils::getGVK)
-        .collect(Collectors.toSet());
-
-    primary.getSpec().getRelatedResources()
-        .forEach(r -> currentGVKSet.add(new GroupVersionKind(r.getApiVersion(), r.getKind())));
-
-    registeredGVKSet.removeAll(currentGVKSet);
+    registeredGVKSet.removeAll(gvksOf(primary));
     registeredGVKSet.forEach(gvk -> {
       log.debug("De-registering Informer on Workflow change for workflow: {} gvk: {}", primary,
           gvk);
+      var mapper = relatedResourceMappers.get(gvk);
+      if (mapper != null) {
+        mapper.removeMappingFor(ResourceID.fromResource(primary));
+      }
       deRegisterInformer(gvk, primary, context);
     });
   }
@@ -71,39 +129,133 @@ public class InformerRegister {
         new GroupVersionKind(relatedResourceSpec.getApiVersion(), relatedResourceSpec.getKind());
     registerInformer(context, gvk, glue);
 
-    var mapper = relatedResourceMappers.get(gvk);
-    var relatedResourceNamespace =
-        relatedResourceSpec.getNamespace() == null ? glue.getMetadata().getNamespace()
-            : relatedResourceSpec.getNamespace();
-    mapper.addResourceIDMapping(
-        relatedResourceSpec.getResourceNames().stream()
-            .map(n -> new ResourceID(n, relatedResourceNamespace))
-            .collect(Collectors.toSet()),
-        ResourceID.fromResource(glue));
+    // the mappings of all the related resources of the glue with the same gvk, so names removed
+    // from the spec are not mapped anymore
+    relatedResourceMappers.get(gvk)
+        .replaceResourceIDMappings(ResourceID.fromResource(glue), relatedResourceIDs(glue, gvk));
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Registers the informer for the gvk if not registered yet. If the registered informer does not
+   * provide everything the glue needs (it caches only metadata, only some named resources or
+   * watches only some namespaces) it is either changed to watch the namespaces needed or replaced
+   * with a new informer.
+   */
   public InformerEventSource<GenericKubernetesResource, Glue> registerInformer(
       Context<Glue> context, GroupVersionKind gvk, Glue glue) {
 
-    RelatedAndOwnedResourceSecondaryToPrimaryMapper mapper;
-    synchronized (this) {
-      relatedResourceMappers.putIfAbsent(gvk,
-          new RelatedAndOwnedResourceSecondaryToPrimaryMapper());
-      mapper = relatedResourceMappers.get(gvk);
-      markEventSource(gvk, glue);
+    var mapper = relatedResourceMappers.computeIfAbsent(gvk,
+        k -> new RelatedAndOwnedResourceSecondaryToPrimaryMapper());
+    var usage = usageOf(glue, gvk);
+    synchronized (lockFor(gvk)) {
+      cancelPendingDeRegistration(gvk);
+      markEventSource(gvk, glue, usage);
+      var scope = scopeOf(gvk);
+      // the informer is not de-registered while marked for the glue, so it can be reused
+      var registered = registeredInformers.get(gvk);
+      if (registered != null) {
+        if (registered.scope().covers(scope)) {
+          reuses.incrementAndGet();
+          return registered.informer();
+        }
+        if (!registered.itemStore() && registered.informer().allowsNamespaceChanges()
+            && registered.scope().namespaces() != null && scope.namespaces() != null
+            && registered.scope().withNamespaces(scope.namespaces()).covers(scope)) {
+          log.debug("Changing namespaces of informer for gvk: {} from: {} to: {}", gvk,
+              registered.scope().namespaces(), scope.namespaces());
+          changeNamespaces(gvk, registered, scope.namespaces());
+          reuses.incrementAndGet();
+          // resources from the new namespaces were not present when template data was collected
+          RenderContext.invalidate(context);
+          return registered.informer();
+        }
+        log.info("Replacing informer for gvk: {} with scope: {} with a new one with scope: {}, "
+            + "needed by glue: {}", gvk, registered.scope(), scope, workflowId(glue));
+        // the new informer is registered before the replaced one is de-registered, so the glues
+        // sharing the informer always find one; the workflows of the glues are rebuilt with the
+        // new informer on their next reconciliation
+        var informer = createAndRegisterInformer(context, gvk, mapper, scope,
+            Utils.informerName(gvk, replacements.incrementAndGet()));
+        registeredInformers.put(gvk, informer);
+        context.eventSourceRetriever().dynamicallyDeRegisterEventSource(registered.name());
+        deRegistrations.incrementAndGet();
+        return informer.informer();
+      }
+      var informer =
+          createAndRegisterInformer(context, gvk, mapper, scope, Utils.informerName(gvk, 0));
+      registeredInformers.put(gvk, informer);
+      return informer.informer();
     }
+  }
 
-    var configBuilder = InformerEventSourceConfiguration.from(gvk, Glue.class)
-        .withSecondaryToPrimaryMapper(mapper)
-        .withName(gvk.toString());
-    configBuilder.withName(gvk.toString());
-    labelSelectorForGVK(gvk).ifPresent(ls -> {
-      log.debug("Registering label selector: {} for informer for gvk: {}", ls, gvk);
-      configBuilder.withLabelSelector(ls);
+  /**
+   * Creates the informers of the resource types used by the glues, to be started in parallel
+   * together with the controller, instead of one after the other as the glues are reconciled. The
+   * glues are marked as using the informers the same way as when reconciled, so the informers are
+   * reused by the reconciliations.
+   */
+  public List<InformerEventSource<GenericKubernetesResource, Glue>> preWarmInformers(
+      EventSourceContext<Glue> eventSourceContext, Collection<Glue> glues) {
+    var gvks = new LinkedHashSet<GroupVersionKind>();
+    for (Glue glue : glues) {
+      Set<GroupVersionKind> glueGVKs;
+      try {
+        glueGVKs = gvksOf(glue);
+      } catch (RuntimeException e) {
+        // invalid glues are reported when reconciled
+        log.warn("Not pre-warming informers for glue: {}", workflowId(glue), e);
+        continue;
+      }
+      for (GroupVersionKind gvk : glueGVKs) {
+        var mapper = relatedResourceMappers.computeIfAbsent(gvk,
+            k -> new RelatedAndOwnedResourceSecondaryToPrimaryMapper());
+        synchronized (lockFor(gvk)) {
+          markEventSource(gvk, glue, usageOf(glue, gvk));
+        }
+        var resourceIDs = relatedResourceIDs(glue, gvk);
+        if (!resourceIDs.isEmpty()) {
+          mapper.replaceResourceIDMappings(ResourceID.fromResource(glue), resourceIDs);
+        }
+      }
+      gvks.addAll(glueGVKs);
+    }
+    // an informer failing to start would fail the startup of the controller, the informers of the
+    // types not served are registered when the glues are reconciled
+    gvks.removeIf(gvk -> {
+      if (Utils.isServed(eventSourceContext.getClient(), gvk)) {
+        return false;
+      }
+      log.warn("Not pre-warming informer for gvk: {}, resource type not served", gvk);
+      return true;
     });
+    log.info("Pre-warming informers for gvks: {}", gvks);
+
+    var fieldManager = eventSourceContext.getControllerConfiguration().fieldManager();
+    var syncTimer = new InformerSyncTimer(
+        eventSourceContext.getControllerConfiguration().getName(), gvks.size());
+    List<InformerEventSource<GenericKubernetesResource, Glue>> res = new ArrayList<>();
+    for (GroupVersionKind gvk : gvks) {
+      synchronized (lockFor(gvk)) {
+        var scope = scopeOf(gvk);
+        var configuration = informerConfiguration(gvk, Utils.informerName(gvk, 0),
+            relatedResourceMappers.get(gvk), scope, fieldManager);
+        var informer = informerProducer.createPreWarmedInformer(configuration,
+            eventSourceContext, syncTimer);
+        registeredInformers.put(gvk, registeredInformer(informer, scope, configuration));
+        registrations.incrementAndGet();
+        res.add(informer);
+      }
+    }
+    return res;
+  }
 
-    var newInformer = informerProducer.createInformer(configBuilder.build(), context);
+  @SuppressWarnings("unchecked")
+  private RegisteredInformer createAndRegisterInformer(
+      Context<Glue> context, GroupVersionKind gvk,
+      RelatedAndOwnedResourceSecondaryToPrimaryMapper mapper, InformerScope scope, String name) {
+    var configuration = informerConfiguration(gvk, name, mapper, scope,
+        context.getControllerConfiguration().fieldManager());
+    var newInformer = informerProducer.createInformer(configuration, context);
 
     var resultInformer = (InformerEventSource<GenericKubernetesResource, Glue>) context
         .eventSourceRetriever()
@@ -112,18 +264,124 @@ public class InformerRegister {
       log.debug("Registering informer for gvk: {} actually registered: {}", gvk,
           resultInformer == newInformer);
     }
-    return resultInformer;
+    if (resultInformer == newInformer) {
+      registrations.incrementAndGet();
+      // resources from the new informer were not present when template data was collected
+      RenderContext.invalidate(context);
+    } else {
+      discards.incrementAndGet();
+    }
+    return registeredInformer(resultInformer, scope, configuration);
+  }
+
+  private InformerEventSourceConfiguration<GenericKubernetesResource> informerConfiguration(
+      GroupVersionKind gvk, String name, RelatedAndOwnedResourceSecondaryToPrimaryMapper mapper,
+      InformerScope scope, String fieldManager) {
+    var configBuilder = InformerEventSourceConfiguration.from(gvk, Glue.class)
+        .withSecondaryToPrimaryMapper(mapper)
+        .withName(name);
+    labelSelectorForGVK(gvk).ifPresent(ls -> {
+      log.debug("Registering label selector: {} for informer for gvk: {}", ls, gvk);
+      configBuilder.withLabelSelector(ls);
+    });
+    if (scope.resourceIDs() != null && scope.resourceIDs().size() == 1) {
+      var resourceID = scope.resourceIDs().iterator().next();
+      var fields = new ArrayList<FieldSelector.Field>();
+      fields.add(new FieldSelector.Field("metadata.name", resourceID.getName()));
+      resourceID.getNamespace()
+          .ifPresent(ns -> fields.add(new FieldSelector.Field("metadata.namespace", ns)));
+      log.debug("Registering field selector: {} for informer for gvk: {}", fields, gvk);
+      configBuilder.withFieldSelector(new FieldSelector(fields));
+    }
+    if (scope.namespaces() != null) {
+      log.debug("Registering informer for gvk: {} for namespaces: {}", gvk, scope.namespaces());
+      // the framework changes namespaces only of informers following the controller, the
+      // namespaces of the controller are not changed at runtime, so only the register changes them
+      configBuilder.withNamespaces(scope.namespaces())
+          .withFollowControllerNamespacesChanges(true);
+    }
+    itemStoreForGVK(gvk, scope, fieldManager).ifPresent(configBuilder::withItemStore);
+    return configBuilder.build();
   }
 
-  public synchronized void deRegisterInformer(GroupVersionKind groupVersionKind,
+  private static RegisteredInformer registeredInformer(
+      InformerEventSource<GenericKubernetesResource, Glue> informer, InformerScope scope,
+      InformerEventSourceConfiguration<GenericKubernetesResource> configuration) {
+    if (configuration.getInformerConfig().getItemStore() != null) {
+      return new RegisteredInformer(configuration.name(), informer, scope, true);
+    }
+    // without the item store all the resources are cached, except the single resource selected by
+    // field selector
+    var selectedResourceIDs = scope.resourceIDs() != null && scope.resourceIDs().size() == 1
+        ? scope.resourceIDs()
+        : null;
+    return new RegisteredInformer(configuration.name(), informer,
+        new InformerScope(false, selectedResourceIDs, scope.namespaces()), false);
+  }
+
+  // called holding the lock of the gvk
+  private void changeNamespaces(GroupVersionKind gvk, RegisteredInformer registered,
+      Set<String> namespaces) {
+    registered.informer().changeNamespaces(namespaces);
+    registeredInformers.put(gvk, new RegisteredInformer(registered.name(), registered.informer(),
+        registered.scope().withNamespaces(namespaces), false));
+  }
+
+  public void deRegisterInformer(GroupVersionKind groupVersionKind,
       Glue primary,
       Context<Glue> context) {
-    var lastForGVK = unmarkEventSource(groupVersionKind, primary);
-    if (lastForGVK) {
-      var es = context.eventSourceRetriever()
-          .dynamicallyDeRegisterEventSource(groupVersionKind.toString());
-      es.ifPresent(i -> log.debug("De-registered informer for gvk: {} primary: {}",
-          groupVersionKind, primary));
+    synchronized (lockFor(groupVersionKind)) {
+      var lastForGVK = unmarkEventSource(groupVersionKind, primary);
+      if (!lastForGVK) {
+        stopWatchingUnusedNamespaces(groupVersionKind);
+      } else if (deRegistrationExecutor == null) {
+        deRegisterUnusedInformer(groupVersionKind, context);
+      } else if (!pendingDeRegistrations.containsKey(groupVersionKind)) {
+        log.debug("Scheduling de-registration of informer for gvk: {} in {} ms",
+            groupVersionKind, deRegistrationDelayMillis);
+        var pending = new PendingDeRegistration(groupVersionKind, context);
+        pendingDeRegistrations.put(groupVersionKind, pending);
+        // the task waits for the lock of the gvk, so the future is set before it is used
+        pending.future = deRegistrationExecutor.schedule(pending, deRegistrationDelayMillis,
+            TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  // called holding the lock of the gvk
+  private void deRegisterUnusedInformer(GroupVersionKind gvk, Context<Glue> context) {
+    var registered = registeredInformers.remove(gvk);
+    var es = context.eventSourceRetriever().dynamicallyDeRegisterEventSource(
+        registered == null ? Utils.informerName(gvk, 0) : registered.name());
+    deRegistrations.incrementAndGet();
+    es.ifPresent(i -> log.debug("De-registered informer for gvk: {}", gvk));
+  }
+
+  // called holding the lock of the gvk
+  private void cancelPendingDeRegistration(GroupVersionKind gvk) {
+    var pending = pendingDeRegistrations.remove(gvk);
+    if (pending != null) {
+      pending.future.cancel(false);
+      relistsAvoided.incrementAndGet();
+      log.debug("Cancelled de-registration of informer for gvk: {}", gvk);
+    }
+  }
+
+  // called holding the lock of the gvk
+  private void stopWatchingUnusedNamespaces(GroupVersionKind gvk) {
+    var registered = registeredInformers.get(gvk);
+    if (registered == null || registered.itemStore()
+        || !registered.informer().allowsNamespaceChanges()
+        || registered.scope().namespaces() == null) {
+      return;
+    }
+    var namespaces = scopeOf(gvk).namespaces();
+    if (namespaces != null && !namespaces.isEmpty()
+        && !namespaces.equals(registered.scope().namespaces())
+        && registered.scope().namespaces().containsAll(namespaces)) {
+      log.debug("Changing namespaces of informer for gvk: {} from: {} to: {}", gvk,
+          registered.scope().namespaces(), namespaces);
+      changeNamespaces(gvk, registered, namespaces);
     }
   }
 
@@ -146,38 +404,248 @@ public class InformerRegister {
     });
   }
 
-  private synchronized void markEventSource(GroupVersionKind gvk,
-      Glue glue) {
-
-    gvkOfInformerToGlue.merge(gvk, new HashSet<>(Set.of(workflowId(glue))),
-        (s1, s2) -> {
-          s1.addAll(s2);
-          return s1;
-        });
-    glueToInformerGVK.merge(glue.getMetadata().getName(), new HashSet<>(Set.of(gvk)),
-        (s1, s2) -> {
-          s1.addAll(s2);
-          return s1;
-        });
+  // called holding the lock of the gvk
+  private void markEventSource(GroupVersionKind gvk,
+      Glue glue, InformerUsage usage) {
+    gvkOfInformerToGlue.computeIfAbsent(gvk, k -> new ConcurrentHashMap<>())
+        .put(workflowId(glue), usage);
+    glueToInformerGVK
+        .computeIfAbsent(glue.getMetadata().getName(), k -> ConcurrentHashMap.newKeySet())
+        .add(gvk);
   }
 
+  // called holding the lock of the gvk
   private boolean unmarkEventSource(GroupVersionKind gvk,
       Glue glue) {
     var gvkSet = glueToInformerGVK.get(glue.getMetadata().getName());
-    gvkSet.remove(gvk);
+    if (gvkSet != null) {
+      gvkSet.remove(gvk);
+    }
     var es = gvkOfInformerToGlue.get(gvk);
+    if (es == null) {
+      return false;
+    }
     es.remove(workflowId(glue));
-    return es.isEmpty();
+    if (es.isEmpty()) {
+      gvkOfInformerToGlue.remove(gvk);
+      return true;
+    }
+    return false;
+  }
+
+  // called holding the lock of the gvk
+  private InformerScope scopeOf(GroupVersionKind gvk) {
+    var usages = gvkOfInformerToGlue.get(gvk).values();
+    boolean metadataOnly = usages.stream().noneMatch(InformerUsage::fullResources);
+    Set<ResourceID> resourceIDs = null;
+    int threshold = controllerConfig.relatedResourceNameWatchThreshold();
+    if (threshold > 0 && usages.stream().allMatch(u -> u.resourceIDs() != null)) {
+      var allResourceIDs = usages.stream().flatMap(u -> u.resourceIDs().stream())
+          .collect(Collectors.toSet());
+      if (allResourceIDs.size() <= threshold) {
+        resourceIDs = allResourceIDs;
+      }
+    }
+    Set<String> namespaces = null;
+    int namespaceThreshold = controllerConfig.informerNamespaceThreshold();
+    if (namespaceThreshold > 0 && usages.stream().allMatch(u -> u.namespaces() != null)) {
+      var allNamespaces = usages.stream().flatMap(u -> u.namespaces().stream())
+          .collect(Collectors.toSet());
+      if (allNamespaces.size() <= namespaceThreshold) {
+        namespaces = allNamespaces;
+      }
+    }
+    return new InformerScope(metadataOnly, resourceIDs, namespaces);
+  }
+
+  /**
+   * The glue needs the whole resources if the resource type is used for a child resource, or for a
+   * related resource not marked as metadata only or which status is patched. Only the named
+   * resources are needed if the resource type is used only for related resources. Resources are
+   * needed from all namespaces if the resource is cluster scoped, or the namespace of a child
+   * resource is templated.
+   */
+  static InformerUsage usageOf(Glue glue, GroupVersionKind gvk) {
+    var children = glue.getSpec().getChildResources().stream()
+        .filter(c -> gvk.equals(Utils.getGVK(c)))
+        .toList();
+    boolean child = !children.isEmpty();
+    var related = glue.getSpec().getRelatedResources().stream()
+        .filter(r -> gvk.equals(new GroupVersionKind(r.getApiVersion(), r.getKind())))
+        .toList();
+    boolean fullResources = child || related.stream().anyMatch(r -> !r.isMetadataOnly()
+        || r.getStatusPatch() != null || r.getStatusPatchTemplate() != null);
+    boolean namedOnly = !child && !related.isEmpty()
+        && related.stream().allMatch(r -> r.getResourceNames() != null);
+
+    Set<String> namespaces = new HashSet<>();
+    for (var c : children) {
+      var namespace = Utils.getNamespace(c);
+      if (c.isClusterScoped() || namespace.map(ns -> ns.contains("{")).orElse(false)) {
+        namespaces = null;
+        break;
+      }
+      namespaces.add(namespace.orElse(glue.getMetadata().getNamespace()));
+    }
+    for (var r : related) {
+      if (namespaces == null || r.isClusterScoped()) {
+        namespaces = null;
+        break;
+      }
+      namespaces.add(r.getNamespace() == null ? glue.getMetadata().getNamespace()
+          : r.getNamespace());
+    }
+    return new InformerUsage(fullResources, namedOnly ? relatedResourceIDs(glue, gvk) : null,
+        namespaces == null || namespaces.isEmpty() ? null : namespaces);
+  }
+
+  static Set<GroupVersionKind> gvksOf(Glue glue) {
+    var res = glue.getSpec().getChildResources().stream()
+        .map(Utils::getGVK)
+        .collect(Collectors.toSet());
+    glue.getSpec().getRelatedResources()
+        .forEach(r -> res.add(new GroupVersionKind(r.getApiVersion(), r.getKind())));
+    return res;
+  }
+
+  static Set<ResourceID> relatedResourceIDs(Glue glue, GroupVersionKind gvk) {
+    return glue.getSpec().getRelatedResources().stream()
+        .filter(r -> gvk.equals(new GroupVersionKind(r.getApiVersion(), r.getKind()))
+            && r.getResourceNames() != null)
+        .flatMap(r -> {
+          var namespace = r.isClusterScoped() ? null
+              : r.getNamespace() == null ? glue.getMetadata().getNamespace() : r.getNamespace();
+          return r.getResourceNames().stream().map(n -> new ResourceID(n, namespace));
+        })
+        .collect(Collectors.toSet());
+  }
+
+  private Object lockFor(GroupVersionKind gvk) {
+    return gvkLocks[Math.floorMod(gvk.hashCode(), gvkLocks.length)];
   }
 
   private String workflowId(Glue glue) {
     return glue.getMetadata().getName() + "#" + glue.getMetadata().getNamespace();
   }
 
+  public long getRegistrations() {
+    return registrations.get();
+  }
+
+  public long getReuses() {
+    return reuses.get();
+  }
+
+  public long getDiscards() {
+    return discards.get();
+  }
+
+  public long getDeRegistrations() {
+    return deRegistrations.get();
+  }
+
+  public long getRelistsAvoided() {
+    return relistsAvoided.get();
+  }
+
+  @PreDestroy
+  void close() {
+    if (deRegistrationExecutor != null) {
+      deRegistrationExecutor.shutdownNow();
+    }
+  }
+
   public Optional<String> labelSelectorForGVK(GroupVersionKind gvk) {
     return Optional.ofNullable(controllerConfig.resourceLabelSelector().get(toSimpleString(gvk)));
   }
 
+  private Optional<PruningItemStore> itemStoreForGVK(GroupVersionKind gvk, InformerScope scope,
+      String fieldManager) {
+    var prunedPointers = PruningItemStore
+        .parsePointers(controllerConfig.resourceCachePrune().get(toSimpleString(gvk)));
+    if (scope.namespaces() != null && scope.namespaces().size() > 1) {
+      // the item store is shared by the informers of the namespaces, and an informer removes the
+      // resources it did not list from the store when (re)listing the resources
+      log.debug("Not using item store for informer of gvk: {} for namespaces: {}", gvk,
+          scope.namespaces());
+      return Optional.empty();
+    }
+    // a single resource is selected already by the field selector
+    var filteredResourceIDs =
+        scope.resourceIDs() != null && scope.resourceIDs().size() > 1 ? scope.resourceIDs() : null;
+    if (!controllerConfig.stripManagedFields() && !scope.metadataOnly() && prunedPointers.isEmpty()
+        && filteredResourceIDs == null) {
+      return Optional.empty();
+    }
+    log.debug("Pruning resources in informer cache for gvk: {} scope: {} pointers: {}",
+        gvk, scope, prunedPointers);
+    return Optional.of(new PruningItemStore(fieldManager, controllerConfig.stripManagedFields(),
+        scope.metadataOnly(), prunedPointers, filteredResourceIDs));
+  }
+
+  /**
+   * What a glue needs from the informer of a resource type.
+   *
+   * @param fullResources if not only the metadata of the resources
+   * @param resourceIDs the resources needed, {@code null} if all the resources
+   * @param namespaces the namespaces of the resources, {@code null} if all the namespaces
+   */
+  record InformerUsage(boolean fullResources, Set<ResourceID> resourceIDs,
+      Set<String> namespaces) {
+  }
+
+  /** What an informer provides, which is what all the glues using it need. */
+  record InformerScope(boolean metadataOnly, Set<ResourceID> resourceIDs,
+      Set<String> namespaces) {
+
+    boolean covers(InformerScope other) {
+      return (!metadataOnly || other.metadataOnly())
+          && covers(resourceIDs, other.resourceIDs())
+          && covers(namespaces, other.namespaces());
+    }
+
+    InformerScope withNamespaces(Set<String> namespaces) {
+      return new InformerScope(metadataOnly, resourceIDs, namespaces);
+    }
+
+    private static <T> boolean covers(Set<T> provided, Set<T> needed) {
+      return provided == null || (needed != null && provided.containsAll(needed));
+    }
+  }
+
+  /** De-registers the unused informer of the gvk, unless used again meanwhile. */
+  private class PendingDeRegistration implements Runnable {
+
+    private final GroupVersionKind gvk;
+    private final Context<Glue> context;
+    private ScheduledFuture<?> future;
+
+    private PendingDeRegistration(GroupVersionKind gvk, Context<Glue> context) {
+      this.gvk = gvk;
+      this.context = context;
+    }
+
+    @Override
+    public void run() {
+      synchronized (lockFor(gvk)) {
+        // not removed if cancelled while waiting for the lock
+        if (pendingDeRegistrations.remove(gvk, this) && !gvkOfInformerToGlue.containsKey(gvk)) {
+          deRegisterUnusedInformer(gvk, context);
+        }
+      }
+    }
+  }
+
+  /**
+   * @param name of the event source, differs from the default only if the informer replaced one
+   * @param scope what the informer provides
+   * @param itemStore if the informer uses an item store, which is not possible for more namespaces
+   */
+  private record RegisteredInformer(String name,
+      InformerEventSource<GenericKubernetesResource, Glue> informer, InformerScope scope,
+      boolean itemStore) {
+  }
+
   public static String toSimpleString(GroupVersionKind gvk) {
     String groupVersion =
         gvk.getGroup() == null ? gvk.getVersion() : gvk.getGroup() + "/" + gvk.getVersion();
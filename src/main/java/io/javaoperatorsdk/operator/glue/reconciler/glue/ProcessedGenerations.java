@@ -0,0 +1,87 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * The last generation of each Glue for which the resources and informers removed from the spec
+ * were cleaned up. Child resources and resource types can be removed from a Glue only by changing
+ * its spec, thus the clean up is skipped while the generation is the same. With a sweep interval
+ * the clean up is done also if the last one is older than the interval, to catch drift, like
+ * resources failed to be deleted.
+ */
+@Singleton
+public class ProcessedGenerations {
+
+  public static final String METRICS_PREFIX = "glue.operator.workflow.change.";
+
+  private final long sweepIntervalNanos;
+  private final LongSupplier nanoTime;
+  private final Map<String, Processed> processed = new ConcurrentHashMap<>();
+
+  private final AtomicLong checks = new AtomicLong();
+  private final AtomicLong skips = new AtomicLong();
+
+  @Inject
+  public ProcessedGenerations(ControllerConfig controllerConfig) {
+    this(controllerConfig.workflowChangeSweepIntervalMillis(), System::nanoTime);
+  }
+
+  ProcessedGenerations(long sweepIntervalMillis, LongSupplier nanoTime) {
+    this.sweepIntervalNanos = TimeUnit.MILLISECONDS.toNanos(sweepIntervalMillis);
+    this.nanoTime = nanoTime;
+    FunctionCounter.builder(METRICS_PREFIX + "checks", checks, AtomicLong::get)
+        .description("Number of reconciliations cleaning up removed resources and informers")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "skips", skips, AtomicLong::get)
+        .description("Number of reconciliations skipping the clean up, since spec not changed")
+        .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * If removed resources and informers should be cleaned up for the actual generation of the Glue.
+   */
+  public boolean cleanupNeeded(Glue glue) {
+    var last = processed.get(glue.getMetadata().getUid());
+    if (last != null && Objects.equals(last.generation(), glue.getMetadata().getGeneration())
+        && (sweepIntervalNanos <= 0 || nanoTime.getAsLong() - last.nanos() < sweepIntervalNanos)) {
+      skips.incrementAndGet();
+      return false;
+    }
+    checks.incrementAndGet();
+    return true;
+  }
+
+  /** Called when the clean up is done for the actual generation of the Glue. */
+  public void cleanedUp(Glue glue) {
+    processed.put(glue.getMetadata().getUid(),
+        new Processed(glue.getMetadata().getGeneration(), nanoTime.getAsLong()));
+  }
+
+  public void remove(Glue glue) {
+    processed.remove(glue.getMetadata().getUid());
+  }
+
+  public long getChecks() {
+    return checks.get();
+  }
+
+  public long getSkips() {
+    return skips.get();
+  }
+
+  private record Processed(Long generation, long nanos) {
+  }
+}
@@ -0,0 +1,159 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.javaoperatorsdk.operator.glue.GlueException;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Informer store which removes the parts of the resources not needed by the operator before
+ * storing them, to reduce the memory used by the informer caches. Removes the managed fields of
+ * other field managers than the operator and the configured JSON pointers, or everything but the
+ * metadata if only the metadata is used. If only some named resources are used, other resources
+ * are not stored at all. Pruning is done in place, on the object received by the informer.
+ */
+public class PruningItemStore implements ItemStore<GenericKubernetesResource> {
+
+  private static final String METADATA = "metadata";
+
+  private final ItemStore<GenericKubernetesResource> store =
+      new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+  private final String fieldManager;
+  private final boolean stripManagedFields;
+  private final boolean metadataOnly;
+  private final List<List<String>> prunedPaths;
+  private final Set<ResourceID> resourceIDs;
+
+  /**
+   * @param fieldManager the managed fields of this field manager are kept, {@code null} removes the
+   *        managed fields of all the field managers
+   * @param stripManagedFields if the managed fields of other field managers should be removed
+   * @param metadataOnly if all but the api version, kind and metadata should be removed
+   * @param prunedPointers JSON pointers of the parts of the resource to remove
+   * @param resourceIDs the resources to store, {@code null} to store all the resources
+   */
+  public PruningItemStore(String fieldManager, boolean stripManagedFields, boolean metadataOnly,
+      List<String> prunedPointers, Set<ResourceID> resourceIDs) {
+    this.fieldManager = fieldManager;
+    this.stripManagedFields = stripManagedFields;
+    this.metadataOnly = metadataOnly;
+    this.prunedPaths = prunedPointers.stream().map(PruningItemStore::parsePointer).toList();
+    this.resourceIDs = resourceIDs;
+  }
+
+  /** Parses the value of the configuration, a comma separated list of JSON pointers. */
+  public static List<String> parsePointers(String pointers) {
+    if (pointers == null || pointers.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(pointers.split(",")).map(String::trim).filter(p -> !p.isEmpty())
+        .toList();
+  }
+
+  static List<String> parsePointer(String pointer) {
+    if (!pointer.startsWith("/") || pointer.length() == 1) {
+      throw new GlueException("Invalid JSON pointer for resource cache pruning: " + pointer);
+    }
+    var res = Arrays.stream(pointer.substring(1).split("/", -1))
+        .map(s -> s.replace("~1", "/").replace("~0", "~"))
+        .toList();
+    if (res.get(0).equals(METADATA) && (res.size() != 3
+        || !(res.get(1).equals("annotations") || res.get(1).equals("labels")))) {
+      throw new GlueException("Only annotations and labels can be pruned from metadata, pointer: "
+          + pointer);
+    }
+    return res;
+  }
+
+  void prune(GenericKubernetesResource resource) {
+    var metadata = resource.getMetadata();
+    if (stripManagedFields && metadata.getManagedFields() != null
+        && !metadata.getManagedFields().isEmpty()) {
+      metadata.setManagedFields(metadata.getManagedFields().stream()
+          .filter(f -> fieldManager != null && fieldManager.equals(f.getManager()))
+          .toList());
+    }
+    if (metadataOnly) {
+      resource.getAdditionalProperties().clear();
+    }
+    for (List<String> path : prunedPaths) {
+      if (path.get(0).equals(METADATA)) {
+        var map = path.get(1).equals("labels") ? metadata.getLabels() : metadata.getAnnotations();
+        if (map != null) {
+          map.remove(path.get(2));
+        }
+      } else {
+        remove(resource.getAdditionalProperties(), path);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void remove(Map<String, Object> root, List<String> path) {
+    Object current = root;
+    for (int i = 0; i < path.size() - 1; i++) {
+      if (current instanceof Map<?, ?> map) {
+        current = map.get(path.get(i));
+      } else if (current instanceof List<?> list && isIndex(path.get(i), list)) {
+        current = list.get(Integer.parseInt(path.get(i)));
+      } else {
+        return;
+      }
+    }
+    if (current instanceof Map<?, ?> map) {
+      ((Map<String, Object>) map).remove(path.get(path.size() - 1));
+    }
+  }
+
+  private static boolean isIndex(String segment, List<?> list) {
+    return !segment.isEmpty() && segment.chars().allMatch(Character::isDigit)
+        && segment.length() < 10 && Integer.parseInt(segment) < list.size();
+  }
+
+  @Override
+  public String getKey(GenericKubernetesResource resource) {
+    return store.getKey(resource);
+  }
+
+  @Override
+  public GenericKubernetesResource put(String key, GenericKubernetesResource resource) {
+    if (resourceIDs != null && !resourceIDs.contains(ResourceID.fromResource(resource))) {
+      return null;
+    }
+    prune(resource);
+    return store.put(key, resource);
+  }
+
+  @Override
+  public GenericKubernetesResource remove(String key) {
+    return store.remove(key);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return store.keySet();
+  }
+
+  @Override
+  public Stream<GenericKubernetesResource> values() {
+    return store.values();
+  }
+
+  @Override
+  public int size() {
+    return store.size();
+  }
+
+  @Override
+  public GenericKubernetesResource get(String key) {
+    return store.get(key);
+  }
+}
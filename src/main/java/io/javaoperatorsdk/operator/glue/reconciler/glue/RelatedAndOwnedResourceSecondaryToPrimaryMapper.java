@@ -10,51 +10,119 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
 
+/**
+ * Maps owned resources by owner reference or annotations, related resources by the mappings
+ * registered for the Glues. Mappings are indexed also by Glue, so changing or removing the mappings
+ * of a Glue takes time proportional to the number of its own mappings. Changes of the mappings of a
+ * Glue are atomic with respect to each other.
+ */
 public class RelatedAndOwnedResourceSecondaryToPrimaryMapper
     implements SecondaryToPrimaryMapper<GenericKubernetesResource> {
 
   private static final Logger log =
       LoggerFactory.getLogger(RelatedAndOwnedResourceSecondaryToPrimaryMapper.class);
 
+  private static final String GLUE_KIND = HasMetadata.getKind(Glue.class);
+  private static final SecondaryToPrimaryMapper<GenericKubernetesResource> OWNER_MAPPER =
+      Mappers.fromOwnerReferences(Glue.class, false);
+  private static final SecondaryToPrimaryMapper<GenericKubernetesResource> ANNOTATION_MAPPER =
+      Mappers.fromDefaultAnnotations(Glue.class);
+
   private final Map<ResourceID, Set<ResourceID>> secondaryToPrimaryMap = new ConcurrentHashMap<>();
+  private final Map<ResourceID, Set<ResourceID>> primaryToSecondaryMap = new ConcurrentHashMap<>();
 
   @Override
   public Set<ResourceID> toPrimaryResourceIDs(GenericKubernetesResource resource) {
+    var metadata = resource.getMetadata();
     // based on if GC or non GC dependent it can have different mapping
-    var res = Mappers.fromOwnerReferences(Glue.class, false).toPrimaryResourceIDs(resource);
-    res.addAll(Mappers.fromDefaultAnnotations(Glue.class).toPrimaryResourceIDs(resource));
-
+    boolean owned = hasGlueOwnerReference(metadata);
+    boolean annotated = metadata.getAnnotations() != null
+        && metadata.getAnnotations().containsKey(Mappers.DEFAULT_ANNOTATION_FOR_NAME);
     // related resource mapping
-    var idMapped = secondaryToPrimaryMap.get(
-        new ResourceID(resource.getMetadata().getName(), resource.getMetadata().getNamespace()));
+    var idMapped = secondaryToPrimaryMap.isEmpty() ? null
+        : secondaryToPrimaryMap.get(new ResourceID(metadata.getName(), metadata.getNamespace()));
+
+    if (!owned && !annotated && idMapped == null) {
+      // most of the events of a shared informer are for resources not related to any Glue
+      return Set.of();
+    }
+    if (!owned && !annotated) {
+      return Set.copyOf(idMapped);
+    }
+    Set<ResourceID> res = new HashSet<>();
+    if (owned) {
+      res.addAll(OWNER_MAPPER.toPrimaryResourceIDs(resource));
+    }
+    if (annotated) {
+      res.addAll(ANNOTATION_MAPPER.toPrimaryResourceIDs(resource));
+    }
     if (idMapped != null) {
       res.addAll(idMapped);
     }
-    log.debug("Resource name: {}, namespace: {}, kind: {}, resourceIds: {}",
-        resource.getMetadata().getName(),
-        resource.getMetadata().getNamespace(), resource.getKind(), res);
+    if (log.isDebugEnabled()) {
+      log.debug("Resource name: {}, namespace: {}, kind: {}, resourceIds: {}",
+          metadata.getName(), metadata.getNamespace(), resource.getKind(), res);
+    }
     return res;
   }
 
-  public void addResourceIDMapping(Collection<ResourceID> resourceIDs, ResourceID glueID) {
-    Set<ResourceID> glueIDSet = new HashSet<>();
-    glueIDSet.add(glueID);
-    resourceIDs
-        .forEach(resourceID -> secondaryToPrimaryMap.merge(resourceID, glueIDSet, (s1, s2) -> {
-          s1.addAll(s2);
-          return s1;
-        }));
+  private static boolean hasGlueOwnerReference(ObjectMeta metadata) {
+    var ownerReferences = metadata.getOwnerReferences();
+    if (ownerReferences == null) {
+      return false;
+    }
+    for (int i = 0; i < ownerReferences.size(); i++) {
+      if (GLUE_KIND.equals(ownerReferences.get(i).getKind())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Replaces the mappings of the Glue, mappings to resources not in the given collection anymore
+   * are removed.
+   */
+  public void replaceResourceIDMappings(ResourceID glueID, Collection<ResourceID> resourceIDs) {
+    primaryToSecondaryMap.compute(glueID, (id, actual) -> {
+      var res = ConcurrentHashMap.<ResourceID>newKeySet();
+      res.addAll(resourceIDs);
+      if (actual != null) {
+        actual.stream().filter(resourceID -> !res.contains(resourceID))
+            .forEach(resourceID -> removeSecondaryToPrimary(resourceID, glueID));
+      }
+      res.stream().filter(resourceID -> actual == null || !actual.contains(resourceID))
+          .forEach(resourceID -> addSecondaryToPrimary(resourceID, glueID));
+      return res.isEmpty() ? null : res;
+    });
   }
 
   public void removeMappingFor(ResourceID workflowID) {
-    secondaryToPrimaryMap.entrySet().stream().forEach(e -> {
-      e.getValue().remove(workflowID);
+    primaryToSecondaryMap.computeIfPresent(workflowID, (id, actual) -> {
+      actual.forEach(resourceID -> removeSecondaryToPrimary(resourceID, workflowID));
+      return null;
+    });
+  }
+
+  private void addSecondaryToPrimary(ResourceID resourceID, ResourceID glueID) {
+    secondaryToPrimaryMap.compute(resourceID, (id, glueIDs) -> {
+      var res = glueIDs == null ? ConcurrentHashMap.<ResourceID>newKeySet() : glueIDs;
+      res.add(glueID);
+      return res;
+    });
+  }
+
+  private void removeSecondaryToPrimary(ResourceID resourceID, ResourceID glueID) {
+    secondaryToPrimaryMap.computeIfPresent(resourceID, (id, glueIDs) -> {
+      glueIDs.remove(glueID);
+      return glueIDs.isEmpty() ? null : glueIDs;
     });
-    secondaryToPrimaryMap.entrySet().removeIf(e -> e.getValue().isEmpty());
   }
 }
@@ -0,0 +1,132 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.templating.InputFingerprints;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Singleton;
+
+/**
+ * Workflows built for Glue-s, so the workflow with its dependent resources and conditions is not
+ * built again on every reconciliation. A workflow is reused while the generation of the Glue, the
+ * (possibly templated) names and namespaces of the child resources and the informers are the same
+ * as when the workflow was built. Entries of a Glue are removed when the Glue is deleted.
+ */
+@Singleton
+public class WorkflowCache {
+
+  public static final String METRICS_PREFIX = "glue.operator.workflow.cache.";
+
+  private final Map<String, CachedWorkflow> workflows = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong rebuilds = new AtomicLong();
+
+  // the cache is registered in the meters once constructed
+  @PostConstruct
+  void registerMetrics() {
+    FunctionCounter.builder(METRICS_PREFIX + "hits", hits, AtomicLong::get)
+        .description("Number of reconciliations using an already built workflow")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "rebuilds", rebuilds, AtomicLong::get)
+        .description("Number of workflows built")
+        .register(Metrics.globalRegistry);
+    Gauge.builder(METRICS_PREFIX + "size", this, WorkflowCache::size)
+        .description("Number of workflows in the cache")
+        .register(Metrics.globalRegistry);
+  }
+
+  /** The workflow last built for the Glue, if built for the actual generation of the Glue. */
+  public Optional<CachedWorkflow> get(Glue glue) {
+    var cached = workflows.get(glue.getMetadata().getUid());
+    if (cached == null
+        || !Objects.equals(cached.generation(), glue.getMetadata().getGeneration())) {
+      return Optional.empty();
+    }
+    return Optional.of(cached);
+  }
+
+  public Workflow<Glue> hit(CachedWorkflow cached) {
+    hits.incrementAndGet();
+    return cached.workflow();
+  }
+
+  public void put(Glue glue, CachedWorkflow cachedWorkflow) {
+    rebuilds.incrementAndGet();
+    workflows.put(glue.getMetadata().getUid(), cachedWorkflow);
+  }
+
+  public void remove(Glue glue) {
+    workflows.remove(glue.getMetadata().getUid());
+  }
+
+  public int size() {
+    return workflows.size();
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getRebuilds() {
+    return rebuilds.get();
+  }
+
+  /**
+   * @param targets target resource of the child resources by the name of the child resource
+   * @param informers informer of the child resources by the name of the child resource
+   */
+  public record CachedWorkflow(Long generation, Workflow<Glue> workflow,
+      Map<String, Target> targets,
+      Map<String, InformerEventSource<GenericKubernetesResource, Glue>> informers) {
+
+    /** If the workflow targets the same resources using the same informers. */
+    boolean matches(Map<String, Target> targets,
+        Map<String, InformerEventSource<GenericKubernetesResource, Glue>> informers) {
+      if (!this.targets.keySet().equals(targets.keySet())
+          || !this.informers.keySet().equals(informers.keySet())) {
+        return false;
+      }
+      return targets.entrySet().stream()
+          .allMatch(e -> this.targets.get(e.getKey()).sameResource(e.getValue()))
+          && informers.entrySet().stream()
+              .allMatch(e -> this.informers.get(e.getKey()) == e.getValue());
+    }
+  }
+
+  /**
+   * Name and namespace of the resource of a child resource, {@code null} if not specified (or for
+   * the name of bulk resources).
+   */
+  public record Target(TemplatedValue name, TemplatedValue namespace) {
+
+    boolean sameResource(Target other) {
+      return Objects.equals(value(name), value(other.name()))
+          && Objects.equals(value(namespace), value(other.namespace()));
+    }
+
+    private static String value(TemplatedValue templatedValue) {
+      return templatedValue == null ? null : templatedValue.value();
+    }
+  }
+
+  /**
+   * @param value the rendered value
+   * @param inputs fingerprint of the inputs the value was rendered with, {@code null} if the value
+   *        is not templated
+   */
+  public record TemplatedValue(String value, InputFingerprints.InputFingerprint inputs) {
+  }
+}
@@ -0,0 +1,56 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutorService;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+
+/**
+ * Context of a reconciliation using a different executor for the dependent resources of the
+ * workflow. Implemented as a proxy, so every other method, including the ones added to the context
+ * by later framework versions, is delegated to the context provided by the framework.
+ */
+public final class WorkflowContext {
+
+  private static final String WORKFLOW_EXECUTOR_SERVICE_METHOD = "getWorkflowExecutorService";
+
+  private WorkflowContext() {}
+
+  @SuppressWarnings("unchecked")
+  public static Context<Glue> of(Context<Glue> context, ExecutorService workflowExecutorService) {
+    return (Context<Glue>) Proxy.newProxyInstance(Context.class.getClassLoader(),
+        new Class<?>[] {Context.class}, new Handler(context, workflowExecutorService));
+  }
+
+  /**
+   * The context provided by the framework. The framework caches the desired state of the dependent
+   * resources only in its own context.
+   */
+  public static Context<Glue> unwrap(Context<Glue> context) {
+    return Proxy.isProxyClass(context.getClass())
+        && Proxy.getInvocationHandler(context) instanceof Handler handler
+            ? handler.context()
+            : context;
+  }
+
+  private record Handler(Context<Glue> context, ExecutorService workflowExecutorService)
+      implements InvocationHandler {
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getParameterCount() == 0
+          && method.getName().equals(WORKFLOW_EXECUTOR_SERVICE_METHOD)) {
+        return workflowExecutorService;
+      }
+      try {
+        return method.invoke(context, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
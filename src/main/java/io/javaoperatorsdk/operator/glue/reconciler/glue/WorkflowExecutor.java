@@ -0,0 +1,220 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Reconciles the dependent resources of the Glue workflows on virtual threads, instead of the
+ * bounded workflow executor of the framework. Dependent resources are mostly waiting for the API
+ * server, so the independent ones of a Glue are all reconciled concurrently, limited per Glue and
+ * globally, to not overload the API server. A limit of zero (or less) means no limit. The resources
+ * of bulk dependent resources applied concurrently count into the global limit too.
+ */
+@Singleton
+public class WorkflowExecutor {
+
+  public static final String METRICS_PREFIX = "glue.operator.workflow.executor.";
+
+  private final ExecutorService virtualThreadExecutor;
+  private final int maxConcurrentDependentsPerGlue;
+  private final Semaphore globalPermits;
+
+  // if the thread reconciles a dependent resource holding a global permit
+  private final ThreadLocal<Boolean> holdsGlobalPermit = ThreadLocal.withInitial(() -> false);
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicLong throttled = new AtomicLong();
+
+  @Inject
+  public WorkflowExecutor(ControllerConfig controllerConfig) {
+    this(controllerConfig.virtualThreadWorkflowExecutor(),
+        controllerConfig.maxConcurrentDependentsPerGlue(),
+        controllerConfig.maxConcurrentDependents());
+  }
+
+  public WorkflowExecutor(boolean enabled, int maxConcurrentDependentsPerGlue,
+      int maxConcurrentDependents) {
+    this.virtualThreadExecutor = enabled
+        ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("glue-workflow-", 0).factory())
+        : null;
+    this.maxConcurrentDependentsPerGlue = maxConcurrentDependentsPerGlue;
+    this.globalPermits =
+        maxConcurrentDependents > 0 ? new Semaphore(maxConcurrentDependents) : null;
+    Gauge.builder(METRICS_PREFIX + "active", active, AtomicInteger::get)
+        .description("Number of dependent resources reconciled at the moment")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "throttled", throttled, AtomicLong::get)
+        .description("Number of dependent resource reconciliations waiting for a concurrency limit")
+        .register(Metrics.globalRegistry);
+  }
+
+  /**
+   * The context to reconcile the workflow of the Glue with. Since a Glue is reconciled by one
+   * thread at a time, the limit per Glue is applied per reconciliation.
+   */
+  public Context<Glue> contextFor(Context<Glue> context) {
+    if (virtualThreadExecutor == null) {
+      return context;
+    }
+    return WorkflowContext.of(context, new LimitedExecutorService(
+        maxConcurrentDependentsPerGlue > 0 ? new Semaphore(maxConcurrentDependentsPerGlue) : null));
+  }
+
+  /**
+   * Runs a task of the dependent resource reconciled by the calling thread (like applying a
+   * resource of a bulk dependent resource) holding a global permit.
+   */
+  public void runWithGlobalPermit(Runnable task) {
+    if (virtualThreadExecutor == null || globalPermits == null) {
+      task.run();
+      return;
+    }
+    if (!globalPermits.tryAcquire()) {
+      throttled.incrementAndGet();
+      globalPermits.acquireUninterruptibly();
+    }
+    try {
+      task.run();
+    } finally {
+      globalPermits.release();
+    }
+  }
+
+  /**
+   * Runs the command releasing the global permit of the dependent resource reconciled by the
+   * calling thread meanwhile, so it does not hold a permit while waiting for its tasks run by
+   * {@link #runWithGlobalPermit(Runnable)}.
+   */
+  public void runReleasingGlobalPermit(Runnable command) {
+    if (globalPermits == null || !holdsGlobalPermit.get()) {
+      command.run();
+      return;
+    }
+    globalPermits.release();
+    holdsGlobalPermit.set(false);
+    try {
+      command.run();
+    } finally {
+      // the permit of the Glue is held, but dependents holding a global permit never wait for it
+      globalPermits.acquireUninterruptibly();
+      holdsGlobalPermit.set(true);
+    }
+  }
+
+  public int getActive() {
+    return active.get();
+  }
+
+  public long getThrottled() {
+    return throttled.get();
+  }
+
+  @PreDestroy
+  void close() {
+    if (virtualThreadExecutor != null) {
+      virtualThreadExecutor.shutdownNow();
+    }
+  }
+
+  private void run(Runnable command, Semaphore gluePermits) {
+    try {
+      // the permit of the Glue first, so global permits are not held while waiting for it
+      acquire(gluePermits);
+      try {
+        acquire(globalPermits);
+      } catch (InterruptedException e) {
+        release(gluePermits);
+        throw e;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      // the framework waits for the submitted task, so it is completed without being run
+      if (command instanceof Future<?> future) {
+        future.cancel(false);
+      }
+      return;
+    }
+    active.incrementAndGet();
+    holdsGlobalPermit.set(globalPermits != null);
+    try {
+      command.run();
+    } finally {
+      holdsGlobalPermit.remove();
+      active.decrementAndGet();
+      release(globalPermits);
+      release(gluePermits);
+    }
+  }
+
+  private void acquire(Semaphore permits) throws InterruptedException {
+    if (permits != null && !permits.tryAcquire()) {
+      throttled.incrementAndGet();
+      permits.acquire();
+    }
+  }
+
+  private static void release(Semaphore permits) {
+    if (permits != null) {
+      permits.release();
+    }
+  }
+
+  /**
+   * Executor of a single reconciliation, running the tasks on the shared virtual thread executor.
+   * It is not shut down by the reconciliation, the lifecycle is bound to the shared executor.
+   */
+  private class LimitedExecutorService extends AbstractExecutorService {
+
+    private final Semaphore gluePermits;
+
+    private LimitedExecutorService(Semaphore gluePermits) {
+      this.gluePermits = gluePermits;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      virtualThreadExecutor.execute(() -> run(command, gluePermits));
+    }
+
+    // the shared executor is shut down only when the operator stops, not by a reconciliation
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return virtualThreadExecutor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return virtualThreadExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return virtualThreadExecutor.awaitTermination(timeout, unit);
+    }
+  }
+}
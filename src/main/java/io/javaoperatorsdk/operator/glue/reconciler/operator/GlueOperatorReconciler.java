@@ -9,11 +9,13 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.utils.KubernetesResourceUtil;
 import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.*;
 import io.javaoperatorsdk.operator.glue.ControllerConfig;
 import io.javaoperatorsdk.operator.glue.GlueException;
+import io.javaoperatorsdk.operator.glue.Utils;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.RelatedResourceSpec;
@@ -21,6 +23,7 @@ import io.javaoperatorsdk.operator.glue.customresource.operator.GlueOperator;
 import io.javaoperatorsdk.operator.glue.customresource.operator.GlueOperatorSpec;
 import io.javaoperatorsdk.operator.glue.customresource.operator.GlueOperatorStatus;
 import io.javaoperatorsdk.operator.glue.customresource.operator.Parent;
+import io.javaoperatorsdk.operator.glue.reconciler.InformerSyncTimer;
 import io.javaoperatorsdk.operator.glue.reconciler.ValidationAndStatusHandler;
 import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
 import io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler;
@@ -181,22 +184,65 @@ public class GlueOperatorReconciler
           .getEventSourceFor(GenericKubernetesResource.class, gvk.toString());
       es.start();
     } catch (NoEventSourceForClassException | IllegalArgumentException e) {
-      var configBuilder = InformerEventSourceConfiguration.from(gvk, GlueOperator.class)
-          .withName(gvk.toString())
-          .withSecondaryToPrimaryMapper(
-              resource -> Set.of(ResourceID.fromResource(glueOperator)));
-
-      if (spec.getParent().getLabelSelector() != null) {
-        configBuilder.withLabelSelector(spec.getParent().getLabelSelector());
-      }
-
-      es = new InformerEventSource<>(configBuilder.build(),
+      es = new InformerEventSource<>(parentInformerConfiguration(glueOperator),
           context.eventSourceRetriever().eventSourceContextForDynamicRegistration());
       context.eventSourceRetriever().dynamicallyRegisterEventSource(es);
     }
     return es;
   }
 
+  private static InformerEventSourceConfiguration<GenericKubernetesResource> parentInformerConfiguration(
+      GlueOperator glueOperator) {
+    var parent = glueOperator.getSpec().getParent();
+    var gvk = new GroupVersionKind(parent.getApiVersion(), parent.getKind());
+    var configBuilder = InformerEventSourceConfiguration.from(gvk, GlueOperator.class)
+        .withName(gvk.toString())
+        .withSecondaryToPrimaryMapper(
+            resource -> Set.of(ResourceID.fromResource(glueOperator)));
+
+    if (parent.getLabelSelector() != null) {
+      configBuilder.withLabelSelector(parent.getLabelSelector());
+    }
+    return configBuilder.build();
+  }
+
+  /**
+   * Informers for the parent resources of the existing GlueOperator-s are started in parallel with
+   * the controller, the same informers are used when the GlueOperator-s are reconciled.
+   */
+  private List<EventSource<?, GlueOperator>> preWarmParentInformers(
+      EventSourceContext<GlueOperator> eventSourceContext) {
+    List<GlueOperator> glueOperators;
+    try {
+      glueOperators = Utils.listPrimaryResources(eventSourceContext);
+    } catch (KubernetesClientException e) {
+      log.warn("Error listing GlueOperator-s for pre-warming informers, informers are "
+          + "registered when GlueOperator-s are reconciled", e);
+      return List.of();
+    }
+    // one operator per parent gvk
+    Map<GroupVersionKind, GlueOperator> operatorsByParentGVK = new LinkedHashMap<>();
+    glueOperators.stream().filter(o -> o.getSpec() != null && o.getSpec().getParent() != null)
+        .forEach(o -> operatorsByParentGVK.putIfAbsent(new GroupVersionKind(
+            o.getSpec().getParent().getApiVersion(), o.getSpec().getParent().getKind()), o));
+    // the informers of the types not served are registered when the GlueOperator-s are reconciled
+    operatorsByParentGVK.keySet().removeIf(gvk -> {
+      if (Utils.isServed(eventSourceContext.getClient(), gvk)) {
+        return false;
+      }
+      log.warn("Not pre-warming informer for parent gvk: {}, resource type not served", gvk);
+      return true;
+    });
+    log.info("Pre-warming informers for parent gvks: {}", operatorsByParentGVK.keySet());
+
+    var syncTimer = new InformerSyncTimer(GLUE_OPERATOR_RECONCILER_NAME,
+        operatorsByParentGVK.size());
+    return operatorsByParentGVK.values().stream()
+        .<EventSource<?, GlueOperator>>map(o -> syncTimer
+            .createInformer(parentInformerConfiguration(o), eventSourceContext))
+        .toList();
+  }
+
   @Override
   public List<EventSource<?, GlueOperator>> prepareEventSources(
       EventSourceContext<GlueOperator> eventSourceContext) {
@@ -206,7 +252,12 @@ public class GlueOperatorReconciler
             .withLabelSelector(FOR_GLUE_OPERATOR_LABEL_KEY + "=" + FOR_GLUE_OPERATOR_LABEL_VALUE)
             .build(),
         eventSourceContext);
-    return List.of(glueEventSource);
+    List<EventSource<?, GlueOperator>> res = new ArrayList<>();
+    res.add(glueEventSource);
+    if (controllerConfig.preWarmInformers()) {
+      res.addAll(preWarmParentInformers(eventSourceContext));
+    }
+    return res;
   }
 
   @Override
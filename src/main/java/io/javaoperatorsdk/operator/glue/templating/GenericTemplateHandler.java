@@ -2,39 +2,65 @@ package io.javaoperatorsdk.operator.glue.templating;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
-import io.javaoperatorsdk.operator.glue.Utils;
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.micrometer.core.instrument.Metrics;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Template;
 import io.quarkus.qute.ValueResolver;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 @Singleton
 public class GenericTemplateHandler {
 
   public static final String WORKFLOW_METADATA_KEY = "glueMetadata";
+  public static final int DEFAULT_TEMPLATE_CACHE_MAX_SIZE = 1000;
 
-  private static final ObjectMapper objectMapper = new ObjectMapper();
   private static final Engine engine = Engine.builder().addDefaults()
       .addValueResolver(base64EncodeResolver())
       .addValueResolver(base64DecodeResolver())
+      .addValueResolver(KubernetesResourceValueResolvers.genericKubernetesResourceResolver())
+      .addValueResolver(KubernetesResourceValueResolvers.objectMetaResolver())
+      .addResultMapper(KubernetesResourceValueResolvers.genericFormResultMapper())
       .build();
 
-  public String processTemplate(Map<String, Map<?, ?>> data, String template,
+  private final ParsedTemplateCache parsedTemplateCache;
+
+  @Inject
+  public GenericTemplateHandler(ControllerConfig controllerConfig) {
+    this(controllerConfig.templateCacheMaxSize());
+  }
+
+  GenericTemplateHandler(int templateCacheMaxSize) {
+    this.parsedTemplateCache = new ParsedTemplateCache(templateCacheMaxSize);
+  }
+
+  // the handler is a singleton, so the meters of the cache are registered once
+  @PostConstruct
+  void registerMetrics() {
+    parsedTemplateCache.registerMetrics(Metrics.globalRegistry);
+  }
+
+  /**
+   * Renders the template with the provided data. Values are either generic (Maps, Lists, etc.) or
+   * resources ({@link GenericKubernetesResource},
+   * {@link io.fabric8.kubernetes.api.model.ObjectMeta}) from which just the values referenced in
+   * the template are read.
+   */
+  public String processTemplate(Map<String, ?> data, String template,
       boolean objectTemplate) {
     if (objectTemplate) {
       template = handleDoubleCurlyBrackets(template);
     }
-    Template parsedTemplate = engine.parse(template);
+    Template parsedTemplate = parsedTemplateCache.getOrParse(template, engine::parse);
     return parsedTemplate.data(data).render();
   }
 
@@ -45,9 +71,7 @@ public class GenericTemplateHandler {
 
   public String processInputAndTemplate(Map<String, GenericKubernetesResource> data,
       String template, boolean objectTemplate) {
-    Map<String, Map<?, ?>> res =
-        genericKubernetesResourceDataToGenericData(data);
-    return processTemplate(res, template, objectTemplate);
+    return processTemplate(data, template, objectTemplate);
   }
 
   public String processTemplate(String template, Glue primary, boolean objectTemplate,
@@ -56,26 +80,9 @@ public class GenericTemplateHandler {
     return processTemplate(data, template, objectTemplate);
   }
 
-  private static Map<String, Map<?, ?>> genericKubernetesResourceDataToGenericData(
-      Map<String, GenericKubernetesResource> data) {
-    Map<String, Map<?, ?>> res = new HashMap<>();
-    data.forEach((key, value) -> res.put(key,
-        value == null ? null : objectMapper.convertValue(value, Map.class)));
-    return res;
-  }
-
-  public static Map<String, Map<?, ?>> createDataWithResources(Glue primary,
+  public static Map<String, Object> createDataWithResources(Glue primary,
       Context<Glue> context) {
-    Map<String, Map<?, ?>> res = new HashMap<>();
-    var actualResourcesByName = Utils.getActualResourcesByNameInWorkflow(context, primary);
-
-    actualResourcesByName.forEach((key, value) -> res.put(key,
-        value == null ? null : objectMapper.convertValue(value, Map.class)));
-
-    res.put(WORKFLOW_METADATA_KEY,
-        objectMapper.convertValue(primary.getMetadata(), Map.class));
-
-    return res;
+    return RenderContext.of(primary, context).data();
   }
 
   @SuppressWarnings("unchecked")
@@ -0,0 +1,162 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+/**
+ * Keeps track of the inputs the desired state of a dependent resource was last applied (or
+ * matched) with. The fingerprint of the inputs consists of the hash of the template, the generation
+ * of the Glue and the uid and resource version of the resources actually read by the template. If
+ * the fingerprint and the resource version of the actual resource did not change since, the
+ * desired state would be the same, thus rendering and matching it can be skipped.
+ */
+@Singleton
+public class InputFingerprints {
+
+  public static final String METRICS_PREFIX = "glue.operator.dependent.fingerprint.";
+
+  private static final String MISSING_VALUE = "-";
+
+  private final boolean enabled;
+  // glue uid -> dependent name -> applied inputs
+  private final Map<String, Map<String, AppliedInputs>> appliedInputs = new ConcurrentHashMap<>();
+
+  private final AtomicLong skips = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  @Inject
+  public InputFingerprints(ControllerConfig controllerConfig) {
+    this(controllerConfig.skipUnchangedDependents());
+  }
+
+  InputFingerprints(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  // the fingerprints are a singleton, so the meters are registered once
+  @PostConstruct
+  void registerMetrics() {
+    FunctionCounter.builder(METRICS_PREFIX + "skips", skips, AtomicLong::get)
+        .description("Number of dependent resources not rendered since inputs did not change")
+        .register(Metrics.globalRegistry);
+    FunctionCounter.builder(METRICS_PREFIX + "misses", misses, AtomicLong::get)
+        .description("Number of dependent resources rendered and matched")
+        .register(Metrics.globalRegistry);
+  }
+
+  public InputFingerprint fingerprint(int templateHash, Glue primary,
+      RenderContext.TrackedData data) {
+    var names = new TreeSet<>(data.allReferenced() ? data.keySet() : data.referencedNames());
+    return new InputFingerprint(templateHash, List.copyOf(names), data.allReferenced(),
+        inputsValue(templateHash, primary, names, data::readValue));
+  }
+
+  /**
+   * Checks if the inputs of the dependent resource and the actual resource are the same as at the
+   * time the desired state was last applied or matched.
+   */
+  public boolean unchanged(Glue primary, String dependentName, int templateHash,
+      GenericKubernetesResource actual, RenderContext renderContext) {
+    if (!enabled) {
+      return false;
+    }
+    var applied = appliedInputs.getOrDefault(primary.getMetadata().getUid(), Map.of())
+        .get(dependentName);
+    var res = applied != null
+        && Objects.equals(applied.uid(), actual.getMetadata().getUid())
+        && Objects.equals(applied.resourceVersion(), actual.getMetadata().getResourceVersion())
+        && applied.fingerprint().sameInputs(templateHash, primary, renderContext.data());
+    (res ? skips : misses).incrementAndGet();
+    return res;
+  }
+
+  public void applied(Glue primary, String dependentName, InputFingerprint fingerprint,
+      GenericKubernetesResource actual) {
+    if (!enabled) {
+      return;
+    }
+    appliedInputs.computeIfAbsent(primary.getMetadata().getUid(), k -> new ConcurrentHashMap<>())
+        .put(dependentName, new AppliedInputs(fingerprint, actual.getMetadata().getUid(),
+            actual.getMetadata().getResourceVersion()));
+  }
+
+  public void remove(Glue primary, String dependentName) {
+    var inputsOfGlue = appliedInputs.get(primary.getMetadata().getUid());
+    if (inputsOfGlue != null) {
+      inputsOfGlue.remove(dependentName);
+    }
+  }
+
+  /** Removes the entries of the child resources not in the spec of the Glue anymore. */
+  public void retainOnly(Glue primary, Set<String> dependentNames) {
+    var inputsOfGlue = appliedInputs.get(primary.getMetadata().getUid());
+    if (inputsOfGlue != null) {
+      inputsOfGlue.keySet().retainAll(dependentNames);
+    }
+  }
+
+  public void remove(Glue primary) {
+    appliedInputs.remove(primary.getMetadata().getUid());
+  }
+
+  public long getSkips() {
+    return skips.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  private static String inputsValue(int templateHash, Glue primary, Collection<String> names,
+      Function<String, Object> values) {
+    var res = new StringBuilder().append(templateHash)
+        .append('|').append(primary.getMetadata().getGeneration());
+    names.forEach(name -> res.append('|').append(name).append('=')
+        .append(valueFingerprint(values.apply(name))));
+    return res.toString();
+  }
+
+  private static String valueFingerprint(Object value) {
+    if (value instanceof GenericKubernetesResource resource) {
+      return resource.getMetadata().getUid() + "/" + resource.getMetadata().getResourceVersion();
+    } else if (value instanceof ObjectMeta metadata) {
+      // metadata of the Glue, labels and annotations are not covered by generation; the resource
+      // version is not used, since it changes also with the status updates of the Glue
+      return metadata.getUid() + "/" + metadata.getNamespace() + "/" + metadata.getName() + "/"
+          + Objects.hash(metadata.getLabels(), metadata.getAnnotations());
+    } else {
+      return value == null ? MISSING_VALUE : String.valueOf(value.hashCode());
+    }
+  }
+
+  public record InputFingerprint(int templateHash, List<String> referencedNames,
+      boolean allReferenced, String value) {
+
+    public boolean sameInputs(int templateHash, Glue primary, Map<String, Object> data) {
+      var names = allReferenced ? new TreeSet<>(data.keySet()) : referencedNames;
+      return value.equals(inputsValue(templateHash, primary, names, data::get));
+    }
+  }
+
+  private record AppliedInputs(InputFingerprint fingerprint, String uid,
+      String resourceVersion) {
+  }
+}
@@ -0,0 +1,88 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.Map;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.javaoperatorsdk.operator.glue.ObjectMetaProperties;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultMapper;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.TemplateNode.Origin;
+import io.quarkus.qute.ValueResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Resolvers reading values directly from {@link GenericKubernetesResource} and {@link ObjectMeta}.
+ * This way resources from the informer caches can be passed to templates as they are, without
+ * converting the whole resource to a Map; just the parts referenced from the template are read.
+ * Not existing properties are reported as not found, as it would be in case of a Map converted
+ * from the resource.
+ */
+class KubernetesResourceValueResolvers {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private KubernetesResourceValueResolvers() {}
+
+  static ValueResolver genericKubernetesResourceResolver() {
+    return ValueResolver.builder()
+        .applyToBaseClass(GenericKubernetesResource.class)
+        .applyToNoParameters()
+        .resolveSync(KubernetesResourceValueResolvers::resolveGenericKubernetesResource)
+        .build();
+  }
+
+  static ValueResolver objectMetaResolver() {
+    return ValueResolver.builder()
+        .applyToBaseClass(ObjectMeta.class)
+        .applyToNoParameters()
+        .resolveSync(KubernetesResourceValueResolvers::resolveObjectMeta)
+        .build();
+  }
+
+  private static Object resolveGenericKubernetesResource(EvalContext context) {
+    var resource = (GenericKubernetesResource) context.getBase();
+    return switch (context.getName()) {
+      case "apiVersion" -> nonNullOrNotFound(resource.getApiVersion(), context);
+      case "kind" -> nonNullOrNotFound(resource.getKind(), context);
+      case "metadata" -> nonNullOrNotFound(resource.getMetadata(), context);
+      default -> {
+        var additionalProperties = resource.getAdditionalProperties();
+        if (additionalProperties.containsKey(context.getName())) {
+          yield additionalProperties.get(context.getName());
+        }
+        yield Results.NotFound.from(context);
+      }
+    };
+  }
+
+  private static Object resolveObjectMeta(EvalContext context) {
+    var metadata = (ObjectMeta) context.getBase();
+    return nonNullOrNotFound(ObjectMetaProperties.get(metadata, context.getName()), context);
+  }
+
+  /**
+   * Whole resources and metadata (like {@code {glueMetadata}}) are rendered the same way as when
+   * they were converted to Maps for the templates. Converted only when rendered, which is rare.
+   */
+  static ResultMapper genericFormResultMapper() {
+    return new ResultMapper() {
+      @Override
+      public boolean appliesTo(Origin origin, Object result) {
+        return result instanceof GenericKubernetesResource || result instanceof ObjectMeta;
+      }
+
+      @Override
+      public String map(Object result, Expression expression) {
+        return objectMapper.convertValue(result, Map.class).toString();
+      }
+    };
+  }
+
+  private static Object nonNullOrNotFound(Object value, EvalContext context) {
+    return value == null ? Results.NotFound.from(context) : value;
+  }
+}
@@ -0,0 +1,100 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.qute.Template;
+
+/**
+ * Bounded cache of parsed templates, keyed by the final template text. Least recently used entries
+ * are evicted once the cache reaches its maximum size. A maximum size of zero (or less) disables
+ * caching, so every template is parsed.
+ */
+public class ParsedTemplateCache {
+
+  public static final String METRICS_PREFIX = "glue.operator.template.cache.";
+
+  private final int maxSize;
+  private final Map<String, Template> cache;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  public ParsedTemplateCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Template> eldest) {
+        if (size() > ParsedTemplateCache.this.maxSize) {
+          evictions.incrementAndGet();
+          return true;
+        }
+        return false;
+      }
+    };
+  }
+
+  public Template getOrParse(String template, Function<String, Template> parser) {
+    if (maxSize <= 0) {
+      misses.incrementAndGet();
+      return parser.apply(template);
+    }
+    synchronized (cache) {
+      var cached = cache.get(template);
+      if (cached != null) {
+        hits.incrementAndGet();
+        return cached;
+      }
+    }
+    misses.incrementAndGet();
+    // parsing is done outside the lock, in the worst case the same template is parsed more times
+    var parsed = parser.apply(template);
+    synchronized (cache) {
+      cache.putIfAbsent(template, parsed);
+    }
+    return parsed;
+  }
+
+  public void registerMetrics(MeterRegistry registry) {
+    FunctionCounter.builder(METRICS_PREFIX + "hits", hits, AtomicLong::get)
+        .description("Number of templates served from the parsed template cache")
+        .register(registry);
+    FunctionCounter.builder(METRICS_PREFIX + "misses", misses, AtomicLong::get)
+        .description("Number of templates parsed because not found in the cache")
+        .register(registry);
+    FunctionCounter.builder(METRICS_PREFIX + "evictions", evictions, AtomicLong::get)
+        .description("Number of parsed templates evicted from the cache")
+        .register(registry);
+    Gauge.builder(METRICS_PREFIX + "size", this, ParsedTemplateCache::size)
+        .description("Number of parsed templates in the cache")
+        .register(registry);
+  }
+
+  public int size() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+}
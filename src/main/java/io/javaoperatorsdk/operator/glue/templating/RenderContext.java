@@ -0,0 +1,207 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.Utils;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.dependent.SecondaryResourceIndex;
+
+import static io.javaoperatorsdk.operator.glue.templating.GenericTemplateHandler.WORKFLOW_METADATA_KEY;
+
+/**
+ * Input data of the templates for a single reconciliation of a Glue. The resources are collected
+ * just once per reconciliation, then the entries are updated only if a resource is changed by a
+ * dependent resource during the workflow execution. The instance is stored in the managed workflow
+ * context, thus shared by all the templates and dependent resources of the reconciliation.
+ * Dependent resources might be reconciled in parallel, so the class is thread safe.
+ */
+public class RenderContext {
+
+  private static final String RENDER_CONTEXT_KEY = RenderContext.class.getName();
+
+  private final Glue primary;
+  private final Context<Glue> context;
+  // null until collected; a collected map is published as a whole, never cleared, since it is read
+  // without locking by dependent resources rendered in parallel
+  private volatile Map<String, Optional<GenericKubernetesResource>> resourcesByName;
+  private final Map<String, Object> data = new TemplateData();
+  private final Map<String, InputFingerprints.InputFingerprint> renderedFingerprints =
+      new ConcurrentHashMap<>();
+  private RenderContext(Glue primary, Context<Glue> context) {
+    this.primary = primary;
+    this.context = context;
+  }
+
+  private Map<String, Optional<GenericKubernetesResource>> resources() {
+    var res = resourcesByName;
+    if (res == null) {
+      synchronized (this) {
+        res = resourcesByName;
+        if (res == null) {
+          Map<String, Optional<GenericKubernetesResource>> collected = new ConcurrentHashMap<>();
+          Utils.getActualResourcesByNameInWorkflow(context, primary)
+              .forEach((name, resource) -> collected.put(name, Optional.ofNullable(resource)));
+          resourcesByName = res = collected;
+        }
+      }
+    }
+    return res;
+  }
+
+  public static RenderContext of(Glue primary, Context<Glue> context) {
+    var managedContext = context.managedWorkflowAndDependentResourceContext();
+    if (managedContext == null) {
+      return new RenderContext(primary, context);
+    }
+    synchronized (managedContext) {
+      var renderContext = managedContext.get(RENDER_CONTEXT_KEY, RenderContext.class);
+      if (renderContext.isPresent()) {
+        return renderContext.get();
+      }
+      var newRenderContext = new RenderContext(primary, context);
+      managedContext.put(RENDER_CONTEXT_KEY, newRenderContext);
+      return newRenderContext;
+    }
+  }
+
+  /**
+   * Makes the resources to be collected again on next access. Should be called when a new informer
+   * is registered, since resources of that informer were not available at the time of collecting.
+   * Invalidates also the {@link SecondaryResourceIndex} the resources are collected from.
+   */
+  public static void invalidate(Context<Glue> context) {
+    SecondaryResourceIndex.invalidate(context);
+    var managedContext = context.managedWorkflowAndDependentResourceContext();
+    if (managedContext == null) {
+      return;
+    }
+    managedContext.get(RENDER_CONTEXT_KEY, RenderContext.class)
+        .ifPresent(renderContext -> renderContext.resourcesByName = null);
+  }
+
+  /**
+   * Called when a resource is created or updated by a dependent resource, so templates rendered
+   * later in the same reconciliation see the up-to-date version.
+   */
+  public void resourceChanged(String name, GenericKubernetesResource resource) {
+    resources().put(name, Optional.ofNullable(resource));
+  }
+
+  public void resourceDeleted(String name, GenericKubernetesResource resource) {
+    // in case of bulk resources the entry might refer to another resource with the same name
+    resources().computeIfPresent(name,
+        (n, actual) -> actual.map(a -> sameResource(a, resource)).orElse(true) ? null : actual);
+  }
+
+  private static boolean sameResource(GenericKubernetesResource r1, GenericKubernetesResource r2) {
+    return Objects.equals(r1.getMetadata().getName(), r2.getMetadata().getName())
+        && Objects.equals(r1.getMetadata().getNamespace(), r2.getMetadata().getNamespace());
+  }
+
+  public Map<String, GenericKubernetesResource> resourcesByName() {
+    Map<String, GenericKubernetesResource> res = new HashMap<>();
+    resources().forEach((name, resource) -> res.put(name, resource.orElse(null)));
+    return res;
+  }
+
+  /**
+   * Read-only view of the template data, including the metadata of the Glue. The view reflects
+   * the changes of the resources.
+   */
+  public Map<String, Object> data() {
+    return data;
+  }
+
+  /**
+   * New view of the template data which records the entries read by a template, in order to
+   * compute the fingerprint of the inputs of a rendering.
+   */
+  public TrackedData trackedData() {
+    return new TrackedData();
+  }
+
+  public void rendered(String dependentName, InputFingerprints.InputFingerprint fingerprint) {
+    renderedFingerprints.put(dependentName, fingerprint);
+  }
+
+  /** Fingerprint of the inputs the desired state of the dependent was rendered with. */
+  public Optional<InputFingerprints.InputFingerprint> renderedFingerprint(String dependentName) {
+    return Optional.ofNullable(renderedFingerprints.get(dependentName));
+  }
+
+  public class TrackedData extends AbstractMap<String, Object> {
+
+    // values as read by the template, resources might change during the rendering
+    private final Map<String, Optional<Object>> readValues = new ConcurrentHashMap<>();
+    private volatile boolean allReferenced = false;
+
+    private TrackedData() {}
+
+    @Override
+    public Object get(Object key) {
+      if (key instanceof String name) {
+        return readValue(name);
+      }
+      return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      if (key instanceof String name) {
+        readValue(name);
+      }
+      return data.containsKey(key);
+    }
+
+    Object readValue(String name) {
+      return readValues.computeIfAbsent(name, n -> Optional.ofNullable(data.get(n))).orElse(null);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      // iterating the data, every entry might be referenced
+      allReferenced = true;
+      return data.entrySet();
+    }
+
+    public Set<String> referencedNames() {
+      return readValues.keySet();
+    }
+
+    public boolean allReferenced() {
+      return allReferenced;
+    }
+  }
+
+  private class TemplateData extends AbstractMap<String, Object> {
+
+    @Override
+    public Object get(Object key) {
+      if (WORKFLOW_METADATA_KEY.equals(key)) {
+        return primary.getMetadata();
+      }
+      var resource = resources().get(key);
+      return resource == null ? null : resource.orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return WORKFLOW_METADATA_KEY.equals(key) || resources().containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      Map<String, Object> res = new HashMap<>(resourcesByName());
+      res.put(WORKFLOW_METADATA_KEY, primary.getMetadata());
+      return res.entrySet();
+    }
+  }
+}
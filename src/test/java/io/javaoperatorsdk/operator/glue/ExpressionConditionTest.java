@@ -0,0 +1,124 @@
+package io.javaoperatorsdk.operator.glue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.glue.conditions.Expression;
+import io.javaoperatorsdk.operator.glue.conditions.ExpressionCondition;
+import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ExpressionConditionTest {
+
+  public static final String DR_NAME = "secondary";
+
+  Context<Glue> mockContext = mock(Context.class);
+  DependentResource<GenericKubernetesResource, Glue> dr = mock(DependentResource.class);
+  Glue glue = new Glue();
+
+  @BeforeEach
+  void setup() {
+    glue.setSpec(new GlueSpec());
+    glue.getSpec().setChildResources(new ArrayList<>());
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(DR_NAME));
+    var secondary = deployment(3, 3);
+    secondary.getMetadata().getAnnotations()
+        .put(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY, DR_NAME);
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(secondary));
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(deployment(3, 2)));
+  }
+
+  @Test
+  void comparesValuesOfTarget() {
+    assertThat(isMet("target.status.readyReplicas == target.spec.replicas")).isFalse();
+    assertThat(isMet("target.status.readyReplicas < target.spec.replicas")).isTrue();
+    assertThat(isMet("target.spec.replicas >= 3.0 && target.kind == 'Deployment'")).isTrue();
+    assertThat(isMet("target.metadata.name == \"test1\"")).isTrue();
+  }
+
+  @Test
+  void accessesOtherResourcesByName() {
+    assertThat(isMet("secondary.status.readyReplicas == secondary.spec.replicas")).isTrue();
+    assertThat(isMet("secondary.spec.template.containers[0][\"image\"] == 'nginx'")).isTrue();
+  }
+
+  @Test
+  void readsPropertiesOfMetadata() {
+    assertThat(isMet("target.metadata.ownerReferences[0].name == 'owner'")).isTrue();
+    assertThat(isMet("target.metadata.annotations != null")).isFalse();
+  }
+
+  @Test
+  void notExistingValuesAreNull() {
+    assertThat(isMet("target.status.notExisting == null")).isTrue();
+    assertThat(isMet("notExisting.status.replicas")).isFalse();
+    assertThat(isMet("!(target.spec.containers[5] != null) || false")).isTrue();
+  }
+
+  @Test
+  void invalidExpressions() {
+    assertThatThrownBy(() -> new ExpressionCondition("target.status =="))
+        .isInstanceOf(GlueException.class);
+    assertThatThrownBy(() -> new ExpressionCondition("(target.status"))
+        .isInstanceOf(GlueException.class);
+    assertThatThrownBy(() -> isMet("target.spec.replicas"))
+        .isInstanceOf(GlueException.class);
+    assertThatThrownBy(
+        () -> new ExpressionCondition("target.spec.replicas == 99999999999999999999"))
+        .isInstanceOf(GlueException.class);
+    assertThatThrownBy(
+        () -> new ExpressionCondition("target.spec.containers[99999999999] != null"))
+        .isInstanceOf(GlueException.class)
+        .hasMessageContaining("Index out of range at position");
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedCompiledExpressions() {
+    var expression = Expression.compile("target.spec.replicas == 1");
+    assertThat(Expression.compile("target.spec.replicas == 1")).isSameAs(expression);
+
+    for (int i = 0; i < Expression.MAX_COMPILED_EXPRESSIONS; i++) {
+      Expression.compile("target.spec.replicas == " + (i + 2));
+    }
+
+    assertThat(Expression.compile("target.spec.replicas == 1")).isNotSameAs(expression);
+  }
+
+  private boolean isMet(String expression) {
+    return new ExpressionCondition(expression).isMet(dr, glue, mockContext);
+  }
+
+  private GenericKubernetesResource deployment(int replicas, int readyReplicas) {
+    var deployment = new GenericKubernetesResource();
+    deployment.setApiVersion("apps/v1");
+    deployment.setKind("Deployment");
+    deployment.setMetadata(new ObjectMetaBuilder().withName("test1")
+        .withAnnotations(new HashMap<>())
+        .addNewOwnerReference().withKind("ConfigMap").withName("owner").endOwnerReference()
+        .build());
+    deployment.setAdditionalProperty("spec", Map.of("replicas", replicas,
+        "template", Map.of("containers", List.of(Map.of("image", "nginx")))));
+    deployment.setAdditionalProperty("status", Map.of("readyReplicas", readyReplicas));
+    return deployment;
+  }
+}
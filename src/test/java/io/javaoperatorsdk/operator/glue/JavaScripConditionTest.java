@@ -2,6 +2,7 @@ package io.javaoperatorsdk.operator.glue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.Set;
@@ -10,16 +11,20 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
 import io.fabric8.kubernetes.client.utils.Serialization;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.glue.conditions.ConditionLimitExceededException;
 import io.javaoperatorsdk.operator.glue.conditions.JavaScripCondition;
+import io.javaoperatorsdk.operator.glue.conditions.JavaScriptEvaluator;
 import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
 import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
 import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -27,6 +32,7 @@ import static org.mockito.Mockito.when;
 class JavaScripConditionTest {
 
   public static final String DR_NAME = "secondary";
+  static JavaScriptEvaluator javaScriptEvaluator = new JavaScriptEvaluator();
   Context<Glue> mockContext = mock(Context.class);
   DependentResource<GenericKubernetesResource, Glue> dr = mock(DependentResource.class);
   Glue dummyGlue = new Glue();
@@ -42,7 +48,7 @@ class JavaScripConditionTest {
     var condition = new JavaScripCondition("""
         x = 1;
         x<2;
-        """);
+        """, javaScriptEvaluator);
 
     when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
     when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
@@ -58,7 +64,7 @@ class JavaScripConditionTest {
 
     var condition = new JavaScripCondition("""
             target.data.key1 == "val1";
-        """);
+        """, javaScriptEvaluator);
 
     var res = condition.isMet(dr, dummyGlue, mockContext);
     assertThat(res).isTrue();
@@ -81,12 +87,151 @@ class JavaScripConditionTest {
 
     var condition = new JavaScripCondition("""
             secondary.data.key1 == "val1";
-        """);
+        """, javaScriptEvaluator);
 
     var res = condition.isMet(dr, glue, mockContext);
     assertThat(res).isTrue();
   }
 
+  @Test
+  void evaluatesConditionRepeatedly() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
+
+    var condition = new JavaScripCondition("""
+            const value = target.data.key1;
+            value == "val1";
+        """, javaScriptEvaluator);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(condition.isMet(dr, dummyGlue, mockContext)).isTrue();
+    }
+  }
+
+  @Test
+  void globalsAreNotVisibleToOtherEvaluations() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
+
+    var settingGlobal = new JavaScripCondition("""
+            globalThis.leaked = "value";
+            true;
+        """, javaScriptEvaluator);
+    var readingGlobal = new JavaScripCondition("""
+            typeof leaked === "undefined";
+        """, javaScriptEvaluator);
+
+    assertThat(settingGlobal.isMet(dr, dummyGlue, mockContext)).isTrue();
+    assertThat(readingGlobal.isMet(dr, dummyGlue, mockContext)).isTrue();
+  }
+
+  @Test
+  void resourcesAreReadOnlyViews() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
+
+    var condition = new JavaScripCondition("""
+            Object.keys(target.data).filter(k => k.startsWith("key")).length > 0
+              && target.metadata.name == "test1" && target.apiVersion == "v1";
+        """, javaScriptEvaluator);
+    assertThat(condition.isMet(dr, dummyGlue, mockContext)).isTrue();
+
+    var modifyingCondition = new JavaScripCondition("""
+            target.data.key1 = "val2";
+            target.data.key1 == "val1";
+        """, javaScriptEvaluator);
+    assertThat(modifyingCondition.isMet(dr, dummyGlue, mockContext)).isTrue();
+  }
+
+  @Test
+  void readsPropertiesOfMetadata() {
+    var cm = configMap();
+    cm.getMetadata().getOwnerReferences().add(new OwnerReferenceBuilder().withKind("ConfigMap")
+        .withName("owner").build());
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(cm));
+
+    var condition = new JavaScripCondition("""
+            target.metadata.ownerReferences[0].name == "owner"
+              && Object.keys(target.metadata).includes("name")
+              && !("finalizers" in target.metadata);
+        """, javaScriptEvaluator);
+    assertThat(condition.isMet(dr, dummyGlue, mockContext)).isTrue();
+  }
+
+  @Test
+  void bindsOnlyReferencedResources() {
+    var cm = configMap();
+    cm.getMetadata().getAnnotations().put(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY, DR_NAME);
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(cm));
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(cm));
+
+    Glue glue = new Glue();
+    glue.setSpec(new GlueSpec());
+    glue.getSpec().setChildResources(new ArrayList<>());
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(DR_NAME));
+
+    var dynamicallyReferencing = new JavaScripCondition("""
+            typeof globalThis["sec" + "ondary"] !== "undefined";
+        """, javaScriptEvaluator);
+    // accessing through the global object, all resources are bound
+    assertThat(dynamicallyReferencing.isMet(dr, glue, mockContext)).isTrue();
+
+    var evaluator = new JavaScriptEvaluator();
+    assertThat(evaluator.identifiers("target.data.key1 == secondary.data.key1"))
+        .contains("target", "secondary")
+        .doesNotContain("other");
+
+    var referencing = new JavaScripCondition("""
+            typeof secondary !== "undefined";
+        """, javaScriptEvaluator);
+    assertThat(referencing.isMet(dr, glue, mockContext)).isTrue();
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedScripts() {
+    var evaluator = new JavaScriptEvaluator(0, Duration.ZERO, 1);
+
+    var identifiers = evaluator.identifiers("target.data.key1 == \"val1\"");
+    assertThat(evaluator.identifiers("target.data.key1 == \"val1\"")).isSameAs(identifiers);
+
+    evaluator.identifiers("secondary.data.key1 == \"val1\"");
+    assertThat(evaluator.identifiers("target.data.key1 == \"val1\"")).isNotSameAs(identifiers);
+  }
+
+  @Test
+  void limitsStatementsOfEvaluation() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
+    var evaluator = new JavaScriptEvaluator(1000, Duration.ZERO);
+
+    var condition = new JavaScripCondition("""
+            while (true) {}
+        """, evaluator);
+
+    assertThatThrownBy(() -> condition.isMet(dr, dummyGlue, mockContext))
+        .isInstanceOf(ConditionLimitExceededException.class);
+    // evaluator is usable after a cancelled evaluation
+    assertThat(new JavaScripCondition("true", evaluator).isMet(dr, dummyGlue, mockContext))
+        .isTrue();
+  }
+
+  @Test
+  void limitsDurationOfEvaluation() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of());
+    when(dr.getSecondaryResource(any(), any())).thenReturn(Optional.of(configMap()));
+    var evaluator = new JavaScriptEvaluator(0, Duration.ofMillis(200));
+
+    var condition = new JavaScripCondition("""
+            while (true) {}
+        """, evaluator);
+
+    assertThatThrownBy(() -> condition.isMet(dr, dummyGlue, mockContext))
+        .isInstanceOf(ConditionLimitExceededException.class);
+    assertThat(new JavaScripCondition("true", evaluator).isMet(dr, dummyGlue, mockContext))
+        .isTrue();
+  }
+
   private GenericKubernetesResource configMap() {
     try (InputStream is = JavaScripConditionTest.class.getResourceAsStream("/ConfigMap.yaml")) {
       return Serialization.unmarshal(is, GenericKubernetesResource.class);
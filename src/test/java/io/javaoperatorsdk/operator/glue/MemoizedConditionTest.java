@@ -0,0 +1,119 @@
+package io.javaoperatorsdk.operator.glue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.glue.conditions.CacheableCondition;
+import io.javaoperatorsdk.operator.glue.conditions.ConditionResultCache;
+import io.javaoperatorsdk.operator.glue.conditions.MemoizedCondition;
+import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class MemoizedConditionTest {
+
+  public static final String REFERENCED_NAME = "referenced";
+  public static final String OTHER_NAME = "other";
+
+  Context<Glue> mockContext = mock(Context.class);
+  DependentResource<GenericKubernetesResource, Glue> dr = mock(DependentResource.class);
+  ConditionResultCache cache = new ConditionResultCache(100);
+  AtomicInteger evaluations = new AtomicInteger();
+  Glue glue = new Glue();
+
+  @BeforeEach
+  void setup() {
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withUid("uid1").build());
+    glue.setSpec(new GlueSpec());
+    glue.getSpec().setChildResources(new ArrayList<>());
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(REFERENCED_NAME));
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(OTHER_NAME));
+    when(dr.name()).thenReturn("dr1");
+  }
+
+  @Test
+  void reusesResultWhileInputsUnchanged() {
+    var condition = new MemoizedCondition<>(countingCondition(), cache);
+
+    evaluate(condition, "1", "1", "1");
+    // not referenced resource changed
+    evaluate(condition, "1", "1", "2");
+    assertThat(evaluations.get()).isEqualTo(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+
+    evaluate(condition, "1", "2", "2");
+    assertThat(evaluations.get()).isEqualTo(2);
+    evaluate(condition, "2", "2", "2");
+    assertThat(evaluations.get()).isEqualTo(3);
+  }
+
+  @Test
+  void removesEntriesOfGlue() {
+    var condition = new MemoizedCondition<>(countingCondition(), cache);
+    evaluate(condition, "1", "1", "1");
+    assertThat(cache.size()).isEqualTo(1);
+
+    cache.remove(glue);
+
+    assertThat(cache.size()).isZero();
+    evaluate(condition, "1", "1", "1");
+    assertThat(evaluations.get()).isEqualTo(2);
+  }
+
+  private void evaluate(MemoizedCondition<GenericKubernetesResource> condition,
+      String targetVersion, String referencedVersion, String otherVersion) {
+    when(dr.getSecondaryResource(any(), any()))
+        .thenReturn(Optional.of(resource("target", targetVersion)));
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(
+        resource(REFERENCED_NAME, referencedVersion), resource(OTHER_NAME, otherVersion)));
+    assertThat(condition.isMet(dr, glue, mockContext)).isTrue();
+  }
+
+  private CacheableCondition<GenericKubernetesResource> countingCondition() {
+    return new CacheableCondition<>() {
+      @Override
+      public String cacheKey() {
+        return "counting";
+      }
+
+      @Override
+      public Set<String> referencedResourceNames(Glue glue) {
+        return Set.of(REFERENCED_NAME);
+      }
+
+      @Override
+      public boolean isMet(DependentResource<GenericKubernetesResource, Glue> dependentResource,
+          Glue primary, Context<Glue> context) {
+        evaluations.incrementAndGet();
+        return true;
+      }
+    };
+  }
+
+  private GenericKubernetesResource resource(String name, String resourceVersion) {
+    var res = new GenericKubernetesResource();
+    res.setApiVersion("v1");
+    res.setKind("ConfigMap");
+    res.setMetadata(new ObjectMetaBuilder().withName(name).withUid(name + "-uid")
+        .withResourceVersion(resourceVersion).withAnnotations(new HashMap<>()).build());
+    res.getMetadata().getAnnotations().put(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY, name);
+    return res;
+  }
+}
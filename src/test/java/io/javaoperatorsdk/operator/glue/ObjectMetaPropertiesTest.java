@@ -0,0 +1,53 @@
+package io.javaoperatorsdk.operator.glue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ObjectMetaPropertiesTest {
+
+  ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void readsSameValuesAsConvertedMetadata() {
+    var metadata = new ObjectMetaBuilder().withName("test1").withNamespace("default")
+        .withUid("uid1").withGeneration(2L).withResourceVersion("123")
+        .withCreationTimestamp("2024-01-01T00:00:00Z")
+        .withLabels(Map.of("app", "test")).withFinalizers("finalizer1")
+        .addNewOwnerReference().withApiVersion("v1").withKind("ConfigMap").withName("owner")
+        .withUid("uid2").endOwnerReference()
+        .build();
+    metadata.setAdditionalProperty("custom", "value");
+
+    assertSameValuesAsConverted(metadata);
+  }
+
+  @Test
+  void emptyCollectionsAreNotPresent() {
+    var metadata = new ObjectMetaBuilder().withName("test1").build();
+
+    assertThat(ObjectMetaProperties.get(metadata, "labels")).isNull();
+    assertThat(ObjectMetaProperties.get(metadata, "finalizers")).isNull();
+    assertThat(ObjectMetaProperties.get(metadata, "ownerReferences")).isNull();
+    assertSameValuesAsConverted(metadata);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void assertSameValuesAsConverted(ObjectMeta metadata) {
+    Map<String, Object> converted = objectMapper.convertValue(metadata, Map.class);
+
+    assertThat(ObjectMetaProperties.names(metadata))
+        .containsExactlyInAnyOrderElementsOf(converted.keySet());
+    // numbers might be of different type, but render the same
+    converted.forEach((name, value) -> assertThat(
+        String.valueOf(ObjectMetaProperties.get(metadata, name)))
+        .isEqualTo(String.valueOf(value)));
+  }
+}
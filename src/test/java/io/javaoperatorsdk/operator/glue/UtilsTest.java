@@ -1,9 +1,22 @@
 package io.javaoperatorsdk.operator.glue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class UtilsTest {
 
@@ -36,4 +49,28 @@ class UtilsTest {
     assertThat(apiVersion).isEqualTo("v1");
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void getsLatestInformerOfGVK() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var replaced = informerNamed(Utils.informerName(gvk, 0));
+    var replacing = informerNamed(Utils.informerName(gvk, 2));
+    var otherGVK = informerNamed(
+        Utils.informerName(GroupVersionKind.gvkFor(Secret.class), 3));
+    var context = mock(Context.class);
+    var eventSourceRetriever = mock(EventSourceRetriever.class);
+    when(context.eventSourceRetriever()).thenReturn(eventSourceRetriever);
+    when(eventSourceRetriever.getEventSourcesFor(GenericKubernetesResource.class))
+        .thenReturn(List.of(replaced, replacing, otherGVK));
+
+    assertThat(Utils.getInformer(context, gvk)).isSameAs(replacing);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static InformerEventSource<GenericKubernetesResource, Glue> informerNamed(String name) {
+    var informer = mock(InformerEventSource.class);
+    when(informer.name()).thenReturn(name);
+    return informer;
+  }
+
 }
@@ -0,0 +1,118 @@
+package io.javaoperatorsdk.operator.glue.dependent;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.AggregatedOperatorException;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext;
+import io.javaoperatorsdk.operator.glue.customresource.glue.BulkProgress;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Matcher;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.WorkflowExecutor;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher.Result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class GenericBulkDependentResourceTest {
+
+  public static final String DR_NAME = "configMaps";
+  public static final int APPLY_CONCURRENCY = 2;
+
+  Context<Glue> mockContext = mock(Context.class);
+  Glue glue = new Glue();
+  WorkflowExecutor workflowExecutor = new WorkflowExecutor(false, 0, 0);
+  GenericBulkDependentResource dependentResource;
+  AtomicInteger running = new AtomicInteger();
+  AtomicInteger maxRunning = new AtomicInteger();
+
+  @BeforeEach
+  void setup() {
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withNamespace("default").build());
+    when(mockContext.managedWorkflowAndDependentResourceContext())
+        .thenReturn(new DefaultManagedWorkflowAndDependentResourceContext<>(null, glue,
+            mockContext));
+    dependentResource = mock(GenericBulkDependentResource.class, withSettings()
+        .useConstructor(null, null, "apiVersion: v1\nkind: ConfigMap", DR_NAME, false,
+            Matcher.SSA, APPLY_CONCURRENCY, workflowExecutor)
+        .defaultAnswer(CALLS_REAL_METHODS));
+    doNothing().when(dependentResource).onCreated(any(), any(), any());
+    doNothing().when(dependentResource).onUpdated(any(), any(), any(), any());
+    doNothing().when(dependentResource).deleteTargetResource(any(), any(), anyString(), any());
+  }
+
+  @Test
+  void appliesResourcesConcurrentlyAndAggregatesErrors() {
+    doReturn(configMaps(1, 6)).when(dependentResource).desiredResources(any(), any());
+    doReturn(configMaps(6, 7)).when(dependentResource).getSecondaryResources(any(), any());
+    doAnswer(invocation -> {
+      GenericKubernetesResource desired = invocation.getArgument(0);
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(50);
+      running.decrementAndGet();
+      if (desired.getMetadata().getName().equals("cm3")) {
+        throw new IllegalStateException("Error creating cm3");
+      }
+      return desired;
+    }).when(dependentResource).create(any(), any(), any());
+
+    assertThatThrownBy(() -> dependentResource.reconcile(glue, mockContext))
+        .isInstanceOfSatisfying(AggregatedOperatorException.class,
+            e -> assertThat(e.getAggregatedExceptions()).containsOnlyKeys("cm3"));
+
+    assertThat(maxRunning.get()).isEqualTo(APPLY_CONCURRENCY);
+    verify(dependentResource, times(5)).create(any(), any(), any());
+    verify(dependentResource, times(4)).onCreated(any(), any(), any());
+    verify(dependentResource).deleteTargetResource(any(), any(), eq("cm6"), any());
+    assertThat(GenericBulkDependentResource.bulkProgress(mockContext))
+        .containsExactly(Map.entry(DR_NAME, new BulkProgress(4, 5)));
+  }
+
+  @Test
+  void updatesOnlyNotMatchingResources() {
+    var resources = configMaps(1, 3);
+    doReturn(resources).when(dependentResource).desiredResources(any(), any());
+    doReturn(resources).when(dependentResource).getSecondaryResources(any(), any());
+    doAnswer(invocation -> Result.computed(
+        ((GenericKubernetesResource) invocation.getArgument(0)).getMetadata().getName()
+            .equals("cm1"),
+        invocation.getArgument(1)))
+        .when(dependentResource).match(any(), any(), any(), any());
+    doAnswer(invocation -> invocation.getArgument(1)).when(dependentResource)
+        .update(any(), any(), any(), any());
+
+    var result = dependentResource.reconcile(glue, mockContext);
+
+    assertThat(result.getResourceOperations()).hasSize(2);
+    verify(dependentResource, times(1)).update(eq(resources.get("cm2")), any(), any(), any());
+    verify(dependentResource, never()).update(eq(resources.get("cm1")), any(), any(), any());
+    assertThat(GenericBulkDependentResource.bulkProgress(mockContext))
+        .containsExactly(Map.entry(DR_NAME, new BulkProgress(1, 2)));
+  }
+
+  private Map<String, GenericKubernetesResource> configMaps(int from, int to) {
+    return IntStream.range(from, to).mapToObj(i -> configMap("cm" + i))
+        .collect(Collectors.toMap(r -> r.getMetadata().getName(), r -> r));
+  }
+
+  private GenericKubernetesResource configMap(String name) {
+    var cm = new GenericKubernetesResource();
+    cm.setApiVersion("v1");
+    cm.setKind("ConfigMap");
+    cm.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace("default").build());
+    return cm;
+  }
+}
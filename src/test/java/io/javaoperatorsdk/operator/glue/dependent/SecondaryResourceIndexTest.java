@@ -0,0 +1,94 @@
+package io.javaoperatorsdk.operator.glue.dependent;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+
+import static io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class SecondaryResourceIndexTest {
+
+  public static final String DR_NAME = "configMap1";
+  public static final GroupVersionKind CONFIG_MAP_GVK = new GroupVersionKind("v1", "ConfigMap");
+
+  Context<Glue> mockContext = mock(Context.class);
+
+  @BeforeEach
+  void setup() {
+    when(mockContext.managedWorkflowAndDependentResourceContext())
+        .thenReturn(new DefaultManagedWorkflowAndDependentResourceContext<>(null, new Glue(),
+            mockContext));
+  }
+
+  @Test
+  void indexesResourcesOncePerReconciliation() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(
+        Set.of(configMap("cm1", "ns1", DR_NAME), configMap("cm1", "ns2", null)));
+
+    var index = SecondaryResourceIndex.of(mockContext);
+
+    assertThat(SecondaryResourceIndex.of(mockContext)).isSameAs(index);
+    assertThat(index.dependentNames()).containsExactly(DR_NAME);
+    assertThat(index.byDependentName(DR_NAME)).hasSize(1);
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm1")).hasSize(2);
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm2")).isEmpty();
+    verify(mockContext, times(1)).getSecondaryResources(any());
+  }
+
+  @Test
+  void updatesChangedAndDeletedResources() {
+    when(mockContext.getSecondaryResources(any()))
+        .thenReturn(Set.of(configMap("cm1", "ns1", DR_NAME)));
+    var index = SecondaryResourceIndex.of(mockContext);
+    index.dependentNames();
+
+    index.resourceChanged(configMap("cm2", "ns1", DR_NAME));
+    assertThat(index.byDependentName(DR_NAME)).hasSize(2);
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm2")).hasSize(1);
+
+    index.resourceDeleted(configMap("cm1", "ns1", DR_NAME));
+    assertThat(index.byDependentName(DR_NAME)).hasSize(1);
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm1")).isEmpty();
+  }
+
+  @Test
+  void buildsIndexAgainAfterInvalidation() {
+    when(mockContext.getSecondaryResources(any()))
+        .thenReturn(Set.of(configMap("cm1", "ns1", DR_NAME)));
+    var index = SecondaryResourceIndex.of(mockContext);
+    index.dependentNames();
+
+    when(mockContext.getSecondaryResources(any()))
+        .thenReturn(Set.of(configMap("cm2", "ns1", DR_NAME)));
+    SecondaryResourceIndex.invalidate(mockContext);
+
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm2")).hasSize(1);
+    assertThat(index.byTypeAndName(CONFIG_MAP_GVK, "cm1")).isEmpty();
+    verify(mockContext, times(2)).getSecondaryResources(any());
+  }
+
+  private GenericKubernetesResource configMap(String name, String namespace,
+      String dependentName) {
+    var cm = new GenericKubernetesResource();
+    cm.setApiVersion("v1");
+    cm.setKind("ConfigMap");
+    cm.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace(namespace)
+        .withAnnotations(dependentName == null ? Map.of()
+            : Map.of(DEPENDENT_NAME_ANNOTATION_KEY, dependentName))
+        .build());
+    return cm;
+  }
+}
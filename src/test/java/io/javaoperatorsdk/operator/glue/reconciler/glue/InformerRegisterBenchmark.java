@@ -0,0 +1,115 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.RelatedResourceSpec;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures the throughput of registering and de-registering informers from parallel reconciliations
+ * of Glues using different GVKs, the informer registration itself is mocked. Run the main method to
+ * see how the throughput scales with the number of threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InformerRegisterBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Register {
+
+    final AtomicInteger threadCounter = new AtomicInteger();
+    InformerRegister informerRegister;
+    Context<Glue> context;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+      var config = mock(ControllerConfig.class, withSettings().stubOnly());
+      when(config.resourceLabelSelector()).thenReturn(Map.of());
+      var informerProducer = mock(InformerProducer.class, withSettings().stubOnly());
+      var informer = mock(InformerEventSource.class, withSettings().stubOnly());
+      when(informerProducer.createInformer(any(), any())).thenReturn(informer);
+      informerRegister = new InformerRegister(informerProducer, config);
+      var eventSourceRetriever = mock(EventSourceRetriever.class, withSettings().stubOnly());
+      when(eventSourceRetriever.dynamicallyRegisterEventSource(any()))
+          .thenAnswer(i -> i.getArgument(0));
+      context = mock(Context.class, withSettings().stubOnly());
+      when(context.eventSourceRetriever()).thenReturn(eventSourceRetriever);
+      var controllerConfiguration = mock(ControllerConfiguration.class, withSettings().stubOnly());
+      when(controllerConfiguration.fieldManager()).thenReturn("glue");
+      when(context.getControllerConfiguration()).thenReturn(controllerConfiguration);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Reconciliation {
+
+    Glue glue;
+    GroupVersionKind gvk;
+
+    @Setup
+    public void setup(Register register) {
+      int index = register.threadCounter.getAndIncrement();
+      glue = new Glue();
+      glue.setMetadata(new ObjectMetaBuilder()
+          .withName("glue" + index)
+          .withNamespace("default")
+          .build());
+      gvk = new GroupVersionKind("sample.io", "v1", "Kind" + index);
+      glue.setSpec(new GlueSpec().setRelatedResources(List.of(new RelatedResourceSpec()
+          .setName("related").setApiVersion(gvk.apiVersion()).setKind(gvk.getKind()))));
+    }
+  }
+
+  @Benchmark
+  public void registerAndDeRegister(Register register, Reconciliation reconciliation) {
+    register.informerRegister.registerInformer(register.context, reconciliation.gvk,
+        reconciliation.glue);
+    register.informerRegister.deRegisterInformer(reconciliation.gvk, reconciliation.glue,
+        register.context);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[] {1, 2, 4, 8}) {
+      new Runner(new OptionsBuilder()
+          .include(InformerRegisterBenchmark.class.getSimpleName())
+          .threads(threads)
+          .measurementTime(TimeValue.seconds(1))
+          .build()).run();
+    }
+  }
+}
@@ -1,17 +1,30 @@
 package io.javaoperatorsdk.operator.glue.reconciler.glue;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.informer.FieldSelector;
+import io.javaoperatorsdk.operator.api.config.informer.InformerEventSourceConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
 import io.javaoperatorsdk.operator.glue.ControllerConfig;
+import io.javaoperatorsdk.operator.glue.Utils;
 import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.RelatedResourceSpec;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -29,13 +42,10 @@ class InformerRegisterTest {
         LABEL_SELECTOR);
     var config = Mockito.mock(ControllerConfig.class);
     when(config.resourceLabelSelector()).thenReturn(labelSelectors);
-    var informerProducer = mock(InformerProducer.class);
+    var informerProducer = mockInformerProducer();
     var register = new InformerRegister(informerProducer, config);
-    var mockContext = mock(Context.class);
-    var mockEventSourceRetriever = mock(EventSourceRetriever.class);
-    when(mockContext.eventSourceRetriever()).thenReturn(mockEventSourceRetriever);
 
-    register.registerInformer(mockContext, gvk, testGlue());
+    register.registerInformer(mockContext(), gvk, testGlue());
 
     verify(informerProducer).createInformer(argThat(c -> {
       assertThat(c.getInformerConfig().getLabelSelector()).isEqualTo(LABEL_SELECTOR);
@@ -44,6 +54,255 @@ class InformerRegisterTest {
   }
 
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void deRegistersInformerWhenNotUsedByAnyGlue() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    var register = new InformerRegister(mockInformerProducer(), config);
+    var mockContext = mockContext();
+    var mockEventSourceRetriever = mockContext.eventSourceRetriever();
+    var glue1 = testGlue();
+    var glue2 = testGlue();
+    glue2.getMetadata().setName("test2");
+
+    register.registerInformer(mockContext, gvk, glue1);
+    register.registerInformer(mockContext, gvk, glue2);
+    register.deRegisterInformer(gvk, glue1, mockContext);
+
+    verify(mockEventSourceRetriever, never()).dynamicallyDeRegisterEventSource(any());
+
+    register.deRegisterInformer(gvk, glue2, mockContext);
+
+    verify(mockEventSourceRetriever).dynamicallyDeRegisterEventSource(gvk.toString());
+  }
+
+  @Test
+  void deRegistersInformerAfterDelayUnlessUsedAgain() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    when(config.informerDeRegistrationDelayMillis()).thenReturn(200L);
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+    var mockEventSourceRetriever = mockContext.eventSourceRetriever();
+    var glue1 = testGlue();
+    var glue2 = testGlue();
+    glue2.getMetadata().setName("test2");
+
+    try {
+      var informer = register.registerInformer(mockContext, gvk, glue1);
+      register.deRegisterInformer(gvk, glue1, mockContext);
+      assertThat(register.registerInformer(mockContext, gvk, glue2)).isSameAs(informer);
+
+      verify(informerProducer, times(1)).createInformer(any(), any());
+      assertThat(register.getRelistsAvoided()).isEqualTo(1);
+
+      register.deRegisterInformer(gvk, glue2, mockContext);
+
+      verify(mockEventSourceRetriever, never()).dynamicallyDeRegisterEventSource(any());
+      verify(mockEventSourceRetriever, timeout(2000))
+          .dynamicallyDeRegisterEventSource(gvk.toString());
+      assertThat(register.getDeRegistrations()).isEqualTo(1);
+    } finally {
+      register.close();
+    }
+  }
+
+  @Test
+  void reusesRegisteredInformer() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+    var glue2 = testGlue();
+    glue2.getMetadata().setName("test2");
+
+    var informer = register.registerInformer(mockContext, gvk, testGlue());
+    var reused = register.registerInformer(mockContext, gvk, glue2);
+
+    assertThat(reused).isSameAs(informer);
+    verify(informerProducer, times(1)).createInformer(any(), any());
+    assertThat(register.getRegistrations()).isEqualTo(1);
+    assertThat(register.getReuses()).isEqualTo(1);
+    assertThat(register.getDiscards()).isZero();
+  }
+
+  @Test
+  void replacesMetadataOnlyInformerIfGlueNeedsFullResources() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+    var metadataOnlyGlue = testGlue();
+    metadataOnlyGlue.setSpec(new GlueSpec().setRelatedResources(List.of(
+        new RelatedResourceSpec().setApiVersion("v1").setKind("ConfigMap").setMetadataOnly(true))));
+    var fullResourceGlue = testGlue();
+    fullResourceGlue.getMetadata().setName("test2");
+
+    var metadataOnlyInformer = register.registerInformer(mockContext, gvk, metadataOnlyGlue);
+    var fullResourceInformer = register.registerInformer(mockContext, gvk, fullResourceGlue);
+
+    assertThat(fullResourceInformer).isNotSameAs(metadataOnlyInformer);
+    verify(informerProducer).createInformer(argThat(c -> c.getInformerConfig().getItemStore()
+        instanceof PruningItemStore), any());
+    verify(mockContext.eventSourceRetriever()).dynamicallyDeRegisterEventSource(gvk.toString());
+    assertThat(register.registerInformer(mockContext, gvk, metadataOnlyGlue))
+        .isSameAs(fullResourceInformer);
+  }
+
+  @Test
+  void watchesOnlyNamedRelatedResourcesBelowThreshold() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    when(config.relatedResourceNameWatchThreshold()).thenReturn(2);
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+
+    register.registerInformer(mockContext, gvk, relatedResourceGlue("glue1", "cm1"));
+
+    verify(informerProducer).createInformer(argThat(c -> {
+      var fields = c.getInformerConfig().getFieldSelector().getFields();
+      return fields.contains(new FieldSelector.Field("metadata.name", "cm1"))
+          && fields.contains(new FieldSelector.Field("metadata.namespace", "default"));
+    }), any());
+
+    register.registerInformer(mockContext, gvk, relatedResourceGlue("glue2", "cm2"));
+
+    verify(informerProducer).createInformer(argThat(c -> c.getInformerConfig()
+        .getItemStore() instanceof PruningItemStore), any());
+
+    register.registerInformer(mockContext, gvk, relatedResourceGlue("glue3", "cm3"));
+
+    verify(informerProducer).createInformer(argThat(c -> c.getInformerConfig()
+        .getItemStore() == null && c.getInformerConfig().getFieldSelector() == null), any());
+    verify(informerProducer, times(3)).createInformer(any(), any());
+
+    register.registerInformer(mockContext, gvk, relatedResourceGlue("glue4", "cm4"));
+
+    verify(informerProducer, times(3)).createInformer(any(), any());
+  }
+
+  @Test
+  void registersWiderInformerBeforeDeRegisteringTheSharedOne() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    when(config.relatedResourceNameWatchThreshold()).thenReturn(2);
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+    var glue1 = relatedResourceGlue("glue1", "cm1");
+    var glue2 = relatedResourceGlue("glue2", "cm1");
+
+    var informer = register.registerInformer(mockContext, gvk, glue1);
+    assertThat(register.registerInformer(mockContext, gvk, glue2)).isSameAs(informer);
+
+    var widerInformer =
+        register.registerInformer(mockContext, gvk, relatedResourceGlue("glue2", "cm2"));
+
+    assertThat(widerInformer).isNotSameAs(informer);
+    var inOrder = inOrder(mockContext.eventSourceRetriever());
+    inOrder.verify(mockContext.eventSourceRetriever()).dynamicallyRegisterEventSource(informer);
+    inOrder.verify(mockContext.eventSourceRetriever())
+        .dynamicallyRegisterEventSource(widerInformer);
+    inOrder.verify(mockContext.eventSourceRetriever())
+        .dynamicallyDeRegisterEventSource(gvk.toString());
+    verify(informerProducer).createInformer(
+        argThat(c -> c.name().equals(Utils.informerName(gvk, 1))), any());
+    assertThat(register.registerInformer(mockContext, gvk, glue1)).isSameAs(widerInformer);
+    verify(informerProducer, times(2)).createInformer(any(), any());
+
+    register.deRegisterInformer(gvk, glue1, mockContext);
+    register.deRegisterInformer(gvk, relatedResourceGlue("glue2", "cm2"), mockContext);
+
+    verify(mockContext.eventSourceRetriever())
+        .dynamicallyDeRegisterEventSource(Utils.informerName(gvk, 1));
+  }
+
+  @Test
+  void watchesNamespacesOfGluesBelowThreshold() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    when(config.informerNamespaceThreshold()).thenReturn(2);
+    var watchedNamespaces = new HashMap<InformerEventSource<?, ?>, Set<String>>();
+    var informerProducer = namespaceTrackingInformerProducer(watchedNamespaces);
+    var register = new InformerRegister(informerProducer, config);
+    var mockContext = mockContext();
+    var glue1 = relatedResourceGlue("glue1", "cm1");
+    glue1.getMetadata().setNamespace("ns1");
+    var glue2 = relatedResourceGlue("glue2", "cm2");
+    glue2.getMetadata().setNamespace("ns2");
+    var glue3 = relatedResourceGlue("glue3", "cm3");
+    glue3.getMetadata().setNamespace("ns3");
+
+    var informer = register.registerInformer(mockContext, gvk, glue1);
+    assertThat(watchedNamespaces.get(informer)).containsExactly("ns1");
+
+    assertThat(register.registerInformer(mockContext, gvk, glue2)).isSameAs(informer);
+    assertThat(watchedNamespaces.get(informer)).containsExactlyInAnyOrder("ns1", "ns2");
+
+    register.deRegisterInformer(gvk, glue2, mockContext);
+    assertThat(watchedNamespaces.get(informer)).containsExactly("ns1");
+
+    register.registerInformer(mockContext, gvk, glue2);
+    var clusterWideInformer = register.registerInformer(mockContext, gvk, glue3);
+
+    assertThat(clusterWideInformer).isNotSameAs(informer);
+    verify(informerProducer).createInformer(argThat(c -> c.getInformerConfig()
+        .inheritsNamespacesFromController()), any());
+    verify(informerProducer, times(2)).createInformer(any(), any());
+    verify(mockContext.eventSourceRetriever()).dynamicallyDeRegisterEventSource(gvk.toString());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void preWarmedInformersAreReusedByReconciliations() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    var informerProducer = mockInformerProducer();
+    var preWarmedInformer = mock(InformerEventSource.class);
+    when(informerProducer.createPreWarmedInformer(any(), any(), any()))
+        .thenReturn(preWarmedInformer);
+    var register = new InformerRegister(informerProducer, config);
+    var eventSourceContext = mockEventSourceContext(true);
+    var glue1 = relatedResourceGlue("glue1", "cm1");
+    var glue2 = relatedResourceGlue("glue2", "cm2");
+
+    var informers = register.preWarmInformers(eventSourceContext, List.of(glue1, glue2));
+
+    assertThat(informers).containsExactly(preWarmedInformer);
+    assertThat(register.registerInformer(mockContext(), gvk, glue1)).isSameAs(preWarmedInformer);
+    verify(informerProducer, never()).createInformer(any(), any());
+  }
+
+  @Test
+  void notServedResourceTypesAreRegisteredWhenReconciled() {
+    var gvk = GroupVersionKind.gvkFor(ConfigMap.class);
+    var config = Mockito.mock(ControllerConfig.class);
+    when(config.resourceLabelSelector()).thenReturn(Map.of());
+    var informerProducer = mockInformerProducer();
+    var register = new InformerRegister(informerProducer, config);
+    var glue = relatedResourceGlue("glue1", "cm1");
+
+    var informers = register.preWarmInformers(mockEventSourceContext(false), List.of(glue));
+
+    assertThat(informers).isEmpty();
+    verify(informerProducer, never()).createPreWarmedInformer(any(), any(), any());
+    assertThat(register.registerInformer(mockContext(), gvk, glue)).isNotNull();
+    verify(informerProducer).createInformer(any(), any());
+  }
+
   @Test
   void gvkToSimpleString() {
     assertThat(InformerRegister.toSimpleString(new GroupVersionKind("apps", "v1", "Deployment")))
@@ -52,11 +311,81 @@ class InformerRegisterTest {
         .isEqualTo("v1#ConfigMap");
   }
 
+  @SuppressWarnings("unchecked")
+  InformerProducer mockInformerProducer() {
+    var informerProducer = mock(InformerProducer.class);
+    when(informerProducer.createInformer(any(), any()))
+        .thenAnswer(i -> mock(InformerEventSource.class));
+    return informerProducer;
+  }
+
+  /**
+   * The informers change the watched namespaces only if allowed by their configuration, as the
+   * informers of the framework.
+   */
+  @SuppressWarnings("unchecked")
+  InformerProducer namespaceTrackingInformerProducer(
+      Map<InformerEventSource<?, ?>, Set<String>> watchedNamespaces) {
+    var informerProducer = mock(InformerProducer.class);
+    when(informerProducer.createInformer(any(), any())).thenAnswer(i -> {
+      InformerEventSourceConfiguration<GenericKubernetesResource> configuration = i.getArgument(0);
+      var informer = mock(InformerEventSource.class);
+      var allowsNamespaceChanges = configuration.followControllerNamespaceChanges();
+      when(informer.allowsNamespaceChanges()).thenReturn(allowsNamespaceChanges);
+      doAnswer(c -> {
+        if (allowsNamespaceChanges) {
+          watchedNamespaces.put(informer, c.getArgument(0));
+        }
+        return null;
+      }).when(informer).changeNamespaces(anySet());
+      watchedNamespaces.put(informer, configuration.getInformerConfig().getNamespaces());
+      return informer;
+    });
+    return informerProducer;
+  }
+
+  @SuppressWarnings("unchecked")
+  EventSourceContext<Glue> mockEventSourceContext(boolean resourceTypesServed) {
+    var eventSourceContext = mock(EventSourceContext.class);
+    var controllerConfiguration = mock(ControllerConfiguration.class);
+    when(controllerConfiguration.getName()).thenReturn("glue");
+    when(controllerConfiguration.fieldManager()).thenReturn("glue");
+    when(eventSourceContext.getControllerConfiguration()).thenReturn(controllerConfiguration);
+    var client = mock(KubernetesClient.class);
+    when(client.supports(anyString(), anyString())).thenReturn(resourceTypesServed);
+    when(eventSourceContext.getClient()).thenReturn(client);
+    return eventSourceContext;
+  }
+
+  @SuppressWarnings("unchecked")
+  Context<Glue> mockContext() {
+    var mockContext = mock(Context.class);
+    var mockEventSourceRetriever = mock(EventSourceRetriever.class);
+    when(mockContext.eventSourceRetriever()).thenReturn(mockEventSourceRetriever);
+    var controllerConfiguration = mock(ControllerConfiguration.class);
+    when(controllerConfiguration.fieldManager()).thenReturn("glue");
+    when(mockContext.getControllerConfiguration()).thenReturn(controllerConfiguration);
+    when(mockEventSourceRetriever.dynamicallyRegisterEventSource(any()))
+        .thenAnswer(i -> i.getArgument(0));
+    return mockContext;
+  }
+
+  Glue relatedResourceGlue(String name, String resourceName) {
+    var glue = testGlue();
+    glue.getMetadata().setName(name);
+    glue.getMetadata().setNamespace("default");
+    glue.setSpec(new GlueSpec().setRelatedResources(List.of(new RelatedResourceSpec()
+        .setApiVersion("v1").setKind("ConfigMap").setResourceNames(List.of(resourceName)))));
+    return glue;
+  }
+
   Glue testGlue() {
     Glue glue = new Glue();
     glue.setMetadata(new ObjectMetaBuilder()
         .withName("test1")
         .build());
+    glue.setSpec(new GlueSpec().setRelatedResources(List.of(new RelatedResourceSpec()
+        .setName("related").setApiVersion("v1").setKind("ConfigMap"))));
     return glue;
   }
 
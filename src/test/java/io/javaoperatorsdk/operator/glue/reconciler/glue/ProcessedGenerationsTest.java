@@ -0,0 +1,52 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessedGenerationsTest {
+
+  AtomicLong nanoTime = new AtomicLong();
+
+  @Test
+  void cleanupNeededOnlyOnGenerationChange() {
+    var processedGenerations = new ProcessedGenerations(0, nanoTime::get);
+
+    assertThat(processedGenerations.cleanupNeeded(glue(1L))).isTrue();
+    processedGenerations.cleanedUp(glue(1L));
+    nanoTime.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+    assertThat(processedGenerations.cleanupNeeded(glue(1L))).isFalse();
+    assertThat(processedGenerations.cleanupNeeded(glue(2L))).isTrue();
+    assertThat(processedGenerations.getChecks()).isEqualTo(2);
+    assertThat(processedGenerations.getSkips()).isEqualTo(1);
+
+    processedGenerations.remove(glue(1L));
+    assertThat(processedGenerations.cleanupNeeded(glue(1L))).isTrue();
+  }
+
+  @Test
+  void cleanupNeededAfterSweepInterval() {
+    var processedGenerations = new ProcessedGenerations(1000, nanoTime::get);
+    processedGenerations.cleanedUp(glue(1L));
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+    assertThat(processedGenerations.cleanupNeeded(glue(1L))).isFalse();
+
+    nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+    assertThat(processedGenerations.cleanupNeeded(glue(1L))).isTrue();
+  }
+
+  Glue glue(long generation) {
+    var glue = new Glue();
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withNamespace("default")
+        .withUid("glue-uid").withGeneration(generation).build());
+    return glue;
+  }
+}
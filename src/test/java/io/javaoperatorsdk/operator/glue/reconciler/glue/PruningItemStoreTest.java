@@ -0,0 +1,104 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.glue.GlueException;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PruningItemStoreTest {
+
+  static final String FIELD_MANAGER = "glue";
+
+  @Test
+  void keepsOnlyManagedFieldsOfTheOperator() {
+    var store = new PruningItemStore(FIELD_MANAGER, true, false, List.of(), null);
+    var resource = testResource();
+
+    store.put(store.getKey(resource), resource);
+
+    var stored = store.get("default/test1");
+    assertThat(stored.getMetadata().getManagedFields())
+        .extracting(f -> f.getManager()).containsExactly(FIELD_MANAGER);
+    assertThat(stored.getAdditionalProperties()).containsKeys("data", "status");
+  }
+
+  @Test
+  void prunesConfiguredPointers() {
+    var store = new PruningItemStore(FIELD_MANAGER, false, false,
+        PruningItemStore.parsePointers(
+            "/status, /data/key~11, /metadata/annotations/last-applied, /spec/not/existing"),
+        null);
+    var resource = testResource();
+
+    store.put(store.getKey(resource), resource);
+
+    var stored = store.get("default/test1");
+    assertThat(stored.getMetadata().getManagedFields()).hasSize(2);
+    assertThat(stored.getMetadata().getAnnotations()).containsOnlyKeys("other");
+    assertThat(stored.getAdditionalProperties()).containsOnlyKeys("data");
+    assertThat((Map<String, Object>) stored.get("data")).containsOnlyKeys("key2");
+  }
+
+  @Test
+  void keepsOnlyMetadataIfMetadataOnly() {
+    var store = new PruningItemStore(FIELD_MANAGER, true, true, List.of(), null);
+    var resource = testResource();
+
+    store.put(store.getKey(resource), resource);
+
+    var stored = store.get("default/test1");
+    assertThat(stored.getAdditionalProperties()).isEmpty();
+    assertThat(stored.getKind()).isEqualTo("ConfigMap");
+    assertThat(stored.getMetadata().getAnnotations()).containsKey("other");
+  }
+
+  @Test
+  void storesOnlyTheSelectedResources() {
+    var store = new PruningItemStore(FIELD_MANAGER, false, false, List.of(),
+        Set.of(new ResourceID("test1", "default"), new ResourceID("test3", "default")));
+    var resource1 = testResource();
+    var resource2 = testResource();
+    resource2.getMetadata().setName("test2");
+
+    store.put(store.getKey(resource1), resource1);
+    store.put(store.getKey(resource2), resource2);
+
+    assertThat(store.keySet()).containsExactly("default/test1");
+  }
+
+  @Test
+  void rejectsInvalidPointers() {
+    assertThatThrownBy(() -> PruningItemStore.parsePointer("status"))
+        .isInstanceOf(GlueException.class);
+    assertThatThrownBy(() -> PruningItemStore.parsePointer("/metadata/name"))
+        .isInstanceOf(GlueException.class);
+  }
+
+  GenericKubernetesResource testResource() {
+    var res = new GenericKubernetesResource();
+    res.setApiVersion("v1");
+    res.setKind("ConfigMap");
+    res.setMetadata(new ObjectMetaBuilder()
+        .withName("test1")
+        .withNamespace("default")
+        .withAnnotations(new HashMap<>(Map.of("last-applied", "{}", "other", "value")))
+        .withManagedFields(
+            new ManagedFieldsEntryBuilder().withManager(FIELD_MANAGER).build(),
+            new ManagedFieldsEntryBuilder().withManager("kubectl").build())
+        .build());
+    res.setAdditionalProperty("data", new HashMap<>(Map.of("key/1", "v1", "key2", "v2")));
+    res.setAdditionalProperty("status", new HashMap<>(Map.of("phase", "Ready")));
+    return res;
+  }
+}
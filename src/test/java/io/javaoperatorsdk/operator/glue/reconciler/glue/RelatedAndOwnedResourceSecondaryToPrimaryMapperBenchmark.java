@@ -0,0 +1,95 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * Measures the cost of mapping an informer event to Glues, for the most frequent case of a resource
+ * not related to any Glue, and for related and owned resources. Not run as part of the tests, run
+ * it with the main method from the IDE or the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RelatedAndOwnedResourceSecondaryToPrimaryMapperBenchmark {
+
+  private static final String NAMESPACE = "default";
+
+  private RelatedAndOwnedResourceSecondaryToPrimaryMapper mapper;
+  private GenericKubernetesResource unrelated;
+  private GenericKubernetesResource related;
+  private GenericKubernetesResource owned;
+
+  @Setup
+  public void setup() {
+    mapper = new RelatedAndOwnedResourceSecondaryToPrimaryMapper();
+    IntStream.range(0, 1000).forEach(i -> mapper.replaceResourceIDMappings(
+        new ResourceID("glue" + i, NAMESPACE), List.of(new ResourceID("related" + i, NAMESPACE))));
+
+    unrelated = resource("unrelated");
+    unrelated.getMetadata().setOwnerReferences(List.of(new OwnerReferenceBuilder()
+        .withApiVersion("apps/v1").withKind("ReplicaSet").withName("rs1").build()));
+    related = resource("related1");
+    owned = resource("owned");
+    owned.getMetadata().setOwnerReferences(List.of(new OwnerReferenceBuilder()
+        .withApiVersion(HasMetadata.getApiVersion(Glue.class))
+        .withKind(HasMetadata.getKind(Glue.class))
+        .withName("glue1").build()));
+  }
+
+  @Benchmark
+  public Set<ResourceID> unrelatedResource() {
+    return mapper.toPrimaryResourceIDs(unrelated);
+  }
+
+  @Benchmark
+  public Set<ResourceID> relatedResource() {
+    return mapper.toPrimaryResourceIDs(related);
+  }
+
+  @Benchmark
+  public Set<ResourceID> ownedResource() {
+    return mapper.toPrimaryResourceIDs(owned);
+  }
+
+  private static GenericKubernetesResource resource(String name) {
+    var res = new GenericKubernetesResource();
+    res.setApiVersion("v1");
+    res.setKind("ConfigMap");
+    res.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE).build());
+    return res;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RelatedAndOwnedResourceSecondaryToPrimaryMapperBenchmark.class.getSimpleName())
+        .addProfiler("gc")
+        .build()).run();
+  }
+}
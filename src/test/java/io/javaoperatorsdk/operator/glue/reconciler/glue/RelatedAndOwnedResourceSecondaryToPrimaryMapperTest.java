@@ -0,0 +1,96 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RelatedAndOwnedResourceSecondaryToPrimaryMapperTest {
+
+  static final String NAMESPACE = "default";
+  static final ResourceID GLUE1 = new ResourceID("glue1", NAMESPACE);
+  static final ResourceID GLUE2 = new ResourceID("glue2", NAMESPACE);
+
+  RelatedAndOwnedResourceSecondaryToPrimaryMapper mapper =
+      new RelatedAndOwnedResourceSecondaryToPrimaryMapper();
+
+  @Test
+  void mapsRelatedResourcesToAllGlues() {
+    mapper.replaceResourceIDMappings(GLUE1, List.of(id("cm1"), id("cm2")));
+    mapper.replaceResourceIDMappings(GLUE2, List.of(id("cm1")));
+
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm1"))).containsExactlyInAnyOrder(GLUE1,
+        GLUE2);
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm2"))).containsExactly(GLUE1);
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm3"))).isEmpty();
+  }
+
+  @Test
+  void removesOnlyMappingsOfTheGlue() {
+    mapper.replaceResourceIDMappings(GLUE1, List.of(id("cm1"), id("cm2")));
+    mapper.replaceResourceIDMappings(GLUE2, List.of(id("cm1")));
+
+    mapper.removeMappingFor(GLUE1);
+
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm1"))).containsExactly(GLUE2);
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm2"))).isEmpty();
+  }
+
+  @Test
+  void replaceDropsStaleMappings() {
+    mapper.replaceResourceIDMappings(GLUE1, List.of(id("cm1"), id("cm2")));
+    mapper.replaceResourceIDMappings(GLUE2, List.of(id("cm2")));
+
+    mapper.replaceResourceIDMappings(GLUE1, List.of(id("cm2"), id("cm3")));
+
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm1"))).isEmpty();
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm2"))).containsExactlyInAnyOrder(GLUE1,
+        GLUE2);
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm3"))).containsExactly(GLUE1);
+
+    mapper.replaceResourceIDMappings(GLUE1, List.of());
+
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm2"))).containsExactly(GLUE2);
+    assertThat(mapper.toPrimaryResourceIDs(resource("cm3"))).isEmpty();
+  }
+
+  @Test
+  void mapsOwnedAndAnnotatedResources() {
+    mapper.replaceResourceIDMappings(GLUE1, List.of(id("cm1")));
+    var owned = resource("cm1");
+    owned.getMetadata().setOwnerReferences(List.of(new OwnerReferenceBuilder()
+        .withApiVersion(HasMetadata.getApiVersion(Glue.class))
+        .withKind(HasMetadata.getKind(Glue.class))
+        .withName(GLUE2.getName())
+        .build()));
+    var annotated = resource("cm2");
+    annotated.getMetadata().setAnnotations(Map.of(
+        Mappers.DEFAULT_ANNOTATION_FOR_NAME, "glue3",
+        Mappers.DEFAULT_ANNOTATION_FOR_NAMESPACE, NAMESPACE));
+
+    assertThat(mapper.toPrimaryResourceIDs(owned)).containsExactlyInAnyOrder(GLUE1, GLUE2);
+    assertThat(mapper.toPrimaryResourceIDs(annotated)).containsExactly(id("glue3"));
+  }
+
+  static ResourceID id(String name) {
+    return new ResourceID(name, NAMESPACE);
+  }
+
+  static GenericKubernetesResource resource(String name) {
+    var res = new GenericKubernetesResource();
+    res.setApiVersion("v1");
+    res.setKind("ConfigMap");
+    res.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace(NAMESPACE).build());
+    return res;
+  }
+}
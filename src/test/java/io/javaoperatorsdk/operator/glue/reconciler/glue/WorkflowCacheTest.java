@@ -0,0 +1,76 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Workflow;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings("unchecked")
+class WorkflowCacheTest {
+
+  public static final String DR_NAME = "configMap1";
+
+  WorkflowCache workflowCache = new WorkflowCache();
+  Workflow<Glue> workflow = mock(Workflow.class);
+  InformerEventSource<GenericKubernetesResource, Glue> informer = mock(InformerEventSource.class);
+
+  @Test
+  void returnsWorkflowBuiltForSameGeneration() {
+    var glue = glue(1L);
+    workflowCache.put(glue, cachedWorkflow(glue, "cm1"));
+
+    assertThat(workflowCache.get(glue)).map(WorkflowCache.CachedWorkflow::workflow)
+        .hasValue(workflow);
+    assertThat(workflowCache.get(glue(2L))).isEmpty();
+    assertThat(workflowCache.size()).isEqualTo(1);
+    assertThat(workflowCache.getRebuilds()).isEqualTo(1);
+  }
+
+  @Test
+  void matchesOnlySameTargetsAndInformers() {
+    var cached = cachedWorkflow(glue(1L), "cm1");
+
+    assertThat(cached.matches(Map.of(DR_NAME, target("cm1")), Map.of(DR_NAME, informer)))
+        .isTrue();
+    assertThat(cached.matches(Map.of(DR_NAME, target("cm2")), Map.of(DR_NAME, informer)))
+        .isFalse();
+    assertThat(cached.matches(Map.of(DR_NAME, target("cm1")),
+        Map.of(DR_NAME, mock(InformerEventSource.class)))).isFalse();
+    assertThat(cached.matches(Map.of(), Map.of())).isFalse();
+  }
+
+  @Test
+  void removesWorkflowOfGlue() {
+    var glue = glue(1L);
+    workflowCache.put(glue, cachedWorkflow(glue, "cm1"));
+
+    workflowCache.remove(glue);
+
+    assertThat(workflowCache.get(glue)).isEmpty();
+    assertThat(workflowCache.size()).isZero();
+  }
+
+  WorkflowCache.CachedWorkflow cachedWorkflow(Glue glue, String resourceName) {
+    return new WorkflowCache.CachedWorkflow(glue.getMetadata().getGeneration(), workflow,
+        Map.of(DR_NAME, target(resourceName)), Map.of(DR_NAME, informer));
+  }
+
+  WorkflowCache.Target target(String resourceName) {
+    return new WorkflowCache.Target(new WorkflowCache.TemplatedValue(resourceName, null), null);
+  }
+
+  Glue glue(long generation) {
+    var glue = new Glue();
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withNamespace("default")
+        .withUid("glue-uid").withGeneration(generation).build());
+    return glue;
+  }
+}
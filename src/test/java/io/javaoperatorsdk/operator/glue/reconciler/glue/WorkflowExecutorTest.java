@@ -0,0 +1,164 @@
+package io.javaoperatorsdk.operator.glue.reconciler.glue;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class WorkflowExecutorTest {
+
+  Context<Glue> mockContext = mock(Context.class);
+  WorkflowExecutor workflowExecutor;
+
+  @AfterEach
+  void close() {
+    workflowExecutor.close();
+  }
+
+  @Test
+  void usesFrameworkContextIfDisabled() {
+    workflowExecutor = new WorkflowExecutor(false, 0, 0);
+
+    assertThat(workflowExecutor.contextFor(mockContext)).isSameAs(mockContext);
+  }
+
+  @Test
+  void delegatesToFrameworkContext() {
+    workflowExecutor = new WorkflowExecutor(true, 0, 0);
+    var client = mock(KubernetesClient.class);
+    when(mockContext.getClient()).thenReturn(client);
+
+    var context = workflowExecutor.contextFor(mockContext);
+
+    assertThat(context.getClient()).isSameAs(client);
+    assertThat(context.getWorkflowExecutorService()).isNotNull();
+    verify(mockContext, never()).getWorkflowExecutorService();
+    assertThat(WorkflowContext.unwrap(context)).isSameAs(mockContext);
+    assertThat(WorkflowContext.unwrap(mockContext)).isSameAs(mockContext);
+  }
+
+  @Test
+  void limitsConcurrentDependentsPerGlue() throws Exception {
+    workflowExecutor = new WorkflowExecutor(true, 2, 0);
+
+    assertThat(maxConcurrency(workflowExecutor.contextFor(mockContext), 6)).isEqualTo(2);
+    assertThat(workflowExecutor.getThrottled()).isPositive();
+    await().untilAsserted(() -> assertThat(workflowExecutor.getActive()).isZero());
+  }
+
+  @Test
+  void completesTasksInterruptedWhileWaitingForPermit() throws Exception {
+    workflowExecutor = new WorkflowExecutor(true, 1, 0);
+    var executorService = workflowExecutor.contextFor(mockContext).getWorkflowExecutorService();
+    var running = new CountDownLatch(1);
+    executorService.submit(() -> {
+      running.countDown();
+      new CountDownLatch(1).await();
+      return null;
+    });
+    assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+    var waiting = executorService.submit(() -> null);
+
+    workflowExecutor.close();
+
+    // cancelled, unless the permit is released by the interrupted running task first
+    await().untilAsserted(() -> assertThat(waiting.isDone()).isTrue());
+  }
+
+  @Test
+  void limitsConcurrentDependentsGlobally() throws Exception {
+    workflowExecutor = new WorkflowExecutor(true, 0, 3);
+
+    assertThat(maxConcurrency(workflowExecutor.contextFor(mockContext), 6)).isEqualTo(3);
+  }
+
+  @Test
+  void runsTasksOfDependentsWithinGlobalLimit() throws Exception {
+    workflowExecutor = new WorkflowExecutor(true, 0, 2);
+    var executorService = workflowExecutor.contextFor(mockContext).getWorkflowExecutorService();
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    var dependent = executorService.submit(() -> {
+      running.incrementAndGet();
+      // the tasks do not wait for the permit held by the dependent
+      workflowExecutor.runReleasingGlobalPermit(() -> {
+        running.decrementAndGet();
+        try (var tasks = Executors.newVirtualThreadPerTaskExecutor()) {
+          for (int i = 0; i < 6; i++) {
+            tasks.execute(() -> workflowExecutor.runWithGlobalPermit(() -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(50);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              running.decrementAndGet();
+            }));
+          }
+        }
+      });
+      return null;
+    });
+
+    dependent.get(5, TimeUnit.SECONDS);
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  void runsDependentsConcurrentlyWithoutLimit() throws Exception {
+    workflowExecutor = new WorkflowExecutor(true, 0, 0);
+    var executorService = workflowExecutor.contextFor(mockContext).getWorkflowExecutorService();
+    var allStarted = new CountDownLatch(20);
+    var futures = new ArrayList<Future<?>>();
+
+    for (int i = 0; i < 20; i++) {
+      futures.add(executorService.submit(() -> {
+        allStarted.countDown();
+        allStarted.await(5, TimeUnit.SECONDS);
+        return null;
+      }));
+    }
+
+    assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    for (var future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  private int maxConcurrency(Context<Glue> context, int tasks) throws Exception {
+    var executorService = context.getWorkflowExecutorService();
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var futures = new ArrayList<Future<?>>();
+    for (int i = 0; i < tasks; i++) {
+      futures.add(executorService.submit(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(50);
+        running.decrementAndGet();
+        return null;
+      }));
+    }
+    for (var future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+    return maxRunning.get();
+  }
+}
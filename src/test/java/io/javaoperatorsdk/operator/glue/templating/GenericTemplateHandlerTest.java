@@ -1,17 +1,27 @@
 package io.javaoperatorsdk.operator.glue.templating;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
 import io.fabric8.kubernetes.client.utils.Serialization;
+import io.quarkus.qute.TemplateException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GenericTemplateHandlerTest {
 
-  GenericTemplateHandler templateHandler = new GenericTemplateHandler();
+  GenericTemplateHandler templateHandler =
+      new GenericTemplateHandler(GenericTemplateHandler.DEFAULT_TEMPLATE_CACHE_MAX_SIZE);
+  ObjectMapper objectMapper = new ObjectMapper();
 
   @Test
   void testDoubleCurlyBrackets() {
@@ -35,4 +45,70 @@ class GenericTemplateHandlerTest {
     assertEquals("value1", mapResult.get("stringValue"));
   }
 
+  @Test
+  void readsValuesDirectlyFromResources() {
+    var template = """
+        name: {cm.metadata.name}
+        kind: {cm.kind}
+        glue: {glueMetadata.name}
+        label: {glueMetadata.labels.app}
+        data:
+        {#for entry in cm.data}
+          {entry.key}: {entry.value}
+        {/for}
+        """;
+
+    Map<String, Object> data = new HashMap<>();
+    data.put("cm", configMap());
+    data.put(GenericTemplateHandler.WORKFLOW_METADATA_KEY, new ObjectMetaBuilder()
+        .withName("glue1")
+        .withLabels(Map.of("app", "app1"))
+        .build());
+
+    var result = templateHandler.processTemplate(data, template, false);
+
+    Map mapResult = Serialization.unmarshal(result, Map.class);
+    assertEquals("test1", mapResult.get("name"));
+    assertEquals("ConfigMap", mapResult.get("kind"));
+    assertEquals("glue1", mapResult.get("glue"));
+    assertEquals("app1", mapResult.get("label"));
+    assertEquals(Map.of("key1", "val1"), mapResult.get("data"));
+  }
+
+  @Test
+  void rendersWholeResourcesAsMaps() {
+    var glueMetadata = new ObjectMetaBuilder().withName("glue1").withNamespace("default")
+        .withLabels(Map.of("app", "app1")).build();
+    var cm = configMap();
+    Map<String, Object> data = new HashMap<>();
+    data.put("cm", cm);
+    data.put(GenericTemplateHandler.WORKFLOW_METADATA_KEY, glueMetadata);
+
+    var result = templateHandler.processTemplate(data,
+        "{glueMetadata}|{cm.metadata}|{cm}|{glueMetadata.labels}", false);
+
+    assertEquals(objectMapper.convertValue(glueMetadata, Map.class) + "|"
+        + objectMapper.convertValue(cm.getMetadata(), Map.class) + "|"
+        + objectMapper.convertValue(cm, Map.class) + "|{app=app1}", result);
+  }
+
+  @Test
+  void notExistingResourcePropertyIsNotFound() {
+    Map<String, Object> data = Map.of("cm", configMap());
+
+    assertThatThrownBy(() -> templateHandler.processTemplate(data, "{cm.spec.value}", false))
+        .isInstanceOf(TemplateException.class);
+    assertThatThrownBy(
+        () -> templateHandler.processTemplate(data, "{cm.metadata.namespace}", false))
+        .isInstanceOf(TemplateException.class);
+  }
+
+  private GenericKubernetesResource configMap() {
+    try (InputStream is = GenericTemplateHandlerTest.class.getResourceAsStream("/ConfigMap.yaml")) {
+      return Serialization.unmarshal(is, GenericKubernetesResource.class);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
 }
@@ -0,0 +1,178 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext;
+import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class InputFingerprintsTest {
+
+  public static final String DR_NAME = "secret1";
+  public static final String REFERENCED_DR_NAME = "configMap1";
+  public static final String OTHER_DR_NAME = "configMap2";
+  public static final String TEMPLATE = "value: {configMap1.data.key}";
+  public static final String GLUE_METADATA_TEMPLATE =
+      "value: {glueMetadata.name}-{configMap1.data.key}";
+
+  GenericTemplateHandler templateHandler =
+      new GenericTemplateHandler(GenericTemplateHandler.DEFAULT_TEMPLATE_CACHE_MAX_SIZE);
+  InputFingerprints inputFingerprints = new InputFingerprints(true);
+  Glue glue = new Glue();
+
+  @BeforeEach
+  void setup() {
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withNamespace("default")
+        .withUid("glue-uid").withGeneration(1L).build());
+    glue.setSpec(new GlueSpec());
+    glue.getSpec().setChildResources(new ArrayList<>());
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(DR_NAME));
+    glue.getSpec().getChildResources()
+        .add(new DependentResourceSpec().setName(REFERENCED_DR_NAME));
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(OTHER_DR_NAME));
+  }
+
+  @Test
+  void unchangedIfInputsAndActualResourceUnchanged() {
+    var actual = resource(DR_NAME, "1");
+    render(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+
+    var context = context(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"),
+        actual);
+
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), actual,
+        RenderContext.of(glue, context))).isTrue();
+  }
+
+  @Test
+  void changesOfNotReferencedResourcesAreIgnored() {
+    var actual = resource(DR_NAME, "1");
+    render(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+
+    var context = context(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "2"),
+        actual);
+
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), actual,
+        RenderContext.of(glue, context))).isTrue();
+  }
+
+  @Test
+  void removesEntriesOfChildResourcesNotInSpec() {
+    var actual = resource(DR_NAME, "1");
+    render(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+
+    inputFingerprints.retainOnly(glue, Set.of(REFERENCED_DR_NAME, OTHER_DR_NAME));
+
+    var context = context(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"),
+        actual);
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), actual,
+        RenderContext.of(glue, context))).isFalse();
+  }
+
+  @Test
+  void changedIfReferencedResourceChanged() {
+    var actual = resource(DR_NAME, "1");
+    render(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+
+    var context = context(resource(REFERENCED_DR_NAME, "2"), resource(OTHER_DR_NAME, "1"),
+        actual);
+
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), actual,
+        RenderContext.of(glue, context))).isFalse();
+  }
+
+  @Test
+  void changedIfActualResourceOrGenerationChanged() {
+    var actual = resource(DR_NAME, "1");
+    render(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+
+    var changedActual = resource(DR_NAME, "2");
+    var context = context(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"),
+        changedActual);
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), changedActual,
+        RenderContext.of(glue, context))).isFalse();
+
+    glue.getMetadata().setGeneration(2L);
+    context = context(resource(REFERENCED_DR_NAME, "1"), resource(OTHER_DR_NAME, "1"), actual);
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, TEMPLATE.hashCode(), actual,
+        RenderContext.of(glue, context))).isFalse();
+  }
+
+  @Test
+  void statusUpdatesOfGlueAreIgnored() {
+    var actual = resource(DR_NAME, "1");
+    glue.getMetadata().setResourceVersion("1");
+    render(GLUE_METADATA_TEMPLATE, resource(REFERENCED_DR_NAME, "1"), actual);
+
+    // status patches change only the resource version of the Glue
+    glue.getMetadata().setResourceVersion("2");
+    var context = context(resource(REFERENCED_DR_NAME, "1"), actual);
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, GLUE_METADATA_TEMPLATE.hashCode(),
+        actual, RenderContext.of(glue, context))).isTrue();
+
+    glue.getMetadata().setLabels(Map.of("app", "app1"));
+    context = context(resource(REFERENCED_DR_NAME, "1"), actual);
+    assertThat(inputFingerprints.unchanged(glue, DR_NAME, GLUE_METADATA_TEMPLATE.hashCode(),
+        actual, RenderContext.of(glue, context))).isFalse();
+  }
+
+  private void render(GenericKubernetesResource... resources) {
+    render(TEMPLATE, resources);
+  }
+
+  private void render(String template, GenericKubernetesResource... resources) {
+    var renderContext = RenderContext.of(glue, context(resources));
+    var data = renderContext.trackedData();
+    templateHandler.processTemplate(data, template, false);
+
+    assertThat(data.referencedNames()).contains(REFERENCED_DR_NAME);
+    inputFingerprints.applied(glue, DR_NAME,
+        inputFingerprints.fingerprint(template.hashCode(), glue, data),
+        resources[resources.length - 1]);
+  }
+
+  private Context<Glue> context(GenericKubernetesResource... resources) {
+    Context<Glue> context = mock(Context.class);
+    when(context.managedWorkflowAndDependentResourceContext())
+        .thenReturn(new DefaultManagedWorkflowAndDependentResourceContext<>(null, glue, context));
+    when(context.getSecondaryResources(any())).thenReturn(Set.of(resources));
+    return context;
+  }
+
+  private GenericKubernetesResource resource(String dependentName, String resourceVersion) {
+    var cm = new GenericKubernetesResource();
+    cm.setApiVersion("v1");
+    cm.setKind("ConfigMap");
+    cm.setMetadata(new ObjectMetaBuilder()
+        .withName(dependentName)
+        .withNamespace("default")
+        .withUid(dependentName + "-uid")
+        .withResourceVersion(resourceVersion)
+        .withAnnotations(new HashMap<>())
+        .build());
+    cm.getMetadata().getAnnotations().put(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY,
+        dependentName);
+    var data = new HashMap<String, Object>();
+    data.put("key", "value" + resourceVersion);
+    cm.setAdditionalProperty("data", data);
+    return cm;
+  }
+
+}
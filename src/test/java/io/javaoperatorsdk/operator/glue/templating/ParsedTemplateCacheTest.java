@@ -0,0 +1,65 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParsedTemplateCacheTest {
+
+  Engine engine = Engine.builder().addDefaults().build();
+  AtomicInteger parseCount = new AtomicInteger();
+
+  @Test
+  void parsesTemplateOnlyOnce() {
+    var cache = new ParsedTemplateCache(10);
+
+    var t1 = cache.getOrParse("{a}", this::parse);
+    var t2 = cache.getOrParse("{a}", this::parse);
+
+    assertThat(t1).isSameAs(t2);
+    assertThat(parseCount.get()).isEqualTo(1);
+    assertThat(cache.getHits()).isEqualTo(1);
+    assertThat(cache.getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedTemplate() {
+    var cache = new ParsedTemplateCache(2);
+
+    cache.getOrParse("{a}", this::parse);
+    cache.getOrParse("{b}", this::parse);
+    // makes "{a}" the most recently used one
+    cache.getOrParse("{a}", this::parse);
+    cache.getOrParse("{c}", this::parse);
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getEvictions()).isEqualTo(1);
+
+    cache.getOrParse("{a}", this::parse);
+    assertThat(parseCount.get()).isEqualTo(3);
+    cache.getOrParse("{b}", this::parse);
+    assertThat(parseCount.get()).isEqualTo(4);
+  }
+
+  @Test
+  void zeroSizeDisablesCaching() {
+    var cache = new ParsedTemplateCache(0);
+
+    cache.getOrParse("{a}", this::parse);
+    cache.getOrParse("{a}", this::parse);
+
+    assertThat(parseCount.get()).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+  }
+
+  private Template parse(String template) {
+    parseCount.incrementAndGet();
+    return engine.parse(template);
+  }
+
+}
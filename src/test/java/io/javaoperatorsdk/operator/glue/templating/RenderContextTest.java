@@ -0,0 +1,106 @@
+package io.javaoperatorsdk.operator.glue.templating;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedWorkflowAndDependentResourceContext;
+import io.javaoperatorsdk.operator.glue.customresource.glue.DependentResourceSpec;
+import io.javaoperatorsdk.operator.glue.customresource.glue.Glue;
+import io.javaoperatorsdk.operator.glue.customresource.glue.GlueSpec;
+import io.javaoperatorsdk.operator.glue.reconciler.glue.GlueReconciler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+class RenderContextTest {
+
+  public static final String DR_NAME = "configMap1";
+
+  Context<Glue> mockContext = mock(Context.class);
+  Glue glue = new Glue();
+
+  @BeforeEach
+  void setup() {
+    glue.setMetadata(new ObjectMetaBuilder().withName("glue1").withNamespace("default").build());
+    glue.setSpec(new GlueSpec());
+    glue.getSpec().setChildResources(new ArrayList<>());
+    glue.getSpec().getChildResources().add(new DependentResourceSpec().setName(DR_NAME));
+    when(mockContext.managedWorkflowAndDependentResourceContext())
+        .thenReturn(new DefaultManagedWorkflowAndDependentResourceContext<>(null, glue,
+            mockContext));
+  }
+
+  @Test
+  void collectsResourcesOncePerReconciliation() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(configMap("v1")));
+
+    var data1 = RenderContext.of(glue, mockContext).data();
+    var data2 = RenderContext.of(glue, mockContext).data();
+
+    assertThat(data1).isSameAs(data2);
+    assertThat(data1.get(GenericTemplateHandler.WORKFLOW_METADATA_KEY))
+        .isSameAs(glue.getMetadata());
+    assertThat(((GenericKubernetesResource) data1.get(DR_NAME)).getMetadata()
+        .getResourceVersion()).isEqualTo("v1");
+    verify(mockContext, times(1)).getSecondaryResources(any());
+  }
+
+  @Test
+  void updatesChangedResource() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(configMap("v1")));
+    var renderContext = RenderContext.of(glue, mockContext);
+
+    renderContext.resourceChanged(DR_NAME, configMap("v2"));
+
+    assertThat(((GenericKubernetesResource) renderContext.data().get(DR_NAME)).getMetadata()
+        .getResourceVersion()).isEqualTo("v2");
+  }
+
+  @Test
+  void removesDeletedResource() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(configMap("v1")));
+    var renderContext = RenderContext.of(glue, mockContext);
+
+    renderContext.resourceDeleted(DR_NAME, configMap("v1"));
+
+    assertThat(renderContext.data()).doesNotContainKey(DR_NAME);
+  }
+
+  @Test
+  void collectsResourcesAgainAfterInvalidation() {
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(configMap("v1")));
+    var renderContext = RenderContext.of(glue, mockContext);
+    renderContext.data().get(DR_NAME);
+
+    when(mockContext.getSecondaryResources(any())).thenReturn(Set.of(configMap("v2")));
+    RenderContext.invalidate(mockContext);
+
+    assertThat(((GenericKubernetesResource) renderContext.data().get(DR_NAME)).getMetadata()
+        .getResourceVersion()).isEqualTo("v2");
+    verify(mockContext, times(2)).getSecondaryResources(any());
+  }
+
+  private GenericKubernetesResource configMap(String resourceVersion) {
+    var cm = new GenericKubernetesResource();
+    cm.setApiVersion("v1");
+    cm.setKind("ConfigMap");
+    cm.setMetadata(new ObjectMetaBuilder()
+        .withName("cm1")
+        .withNamespace("default")
+        .withResourceVersion(resourceVersion)
+        .withAnnotations(new HashMap<>())
+        .build());
+    cm.getMetadata().getAnnotations().put(GlueReconciler.DEPENDENT_NAME_ANNOTATION_KEY, DR_NAME);
+    return cm;
+  }
+
+}